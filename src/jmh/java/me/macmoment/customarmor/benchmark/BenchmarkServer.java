@@ -0,0 +1,111 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorRegistry;
+import me.macmoment.customarmor.utils.ArmorUtils;
+import me.macmoment.customarmor.utils.EssenceUtils;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.util.Random;
+
+/**
+ * In-process server for benchmarks: MockBukkit with CustomArmor loaded from the bundled config.yml
+ * The thread that calls {@link #start()} becomes the server's main thread, so benchmarks that touch
+ * main-thread-only state use thread-scoped state and a single benchmark thread
+ */
+public final class BenchmarkServer {
+    /** Size of PlayerInventory#getContents(): 36 storage, 4 armor and the off hand. */
+    public static final int INVENTORY_SLOTS = 41;
+    private static final int STORAGE_SLOTS = 36;
+
+    private static final Material[] FILLER = {
+        Material.COBBLESTONE, Material.OAK_LOG, Material.COOKED_BEEF, Material.TORCH, Material.IRON_INGOT,
+        Material.DIAMOND_PICKAXE, Material.DIAMOND_SWORD, Material.BREAD, Material.ARROW, Material.DIRT
+    };
+
+    private BenchmarkServer() {
+    }
+
+    public static ServerMock start() {
+        ServerMock server = MockBukkit.mock();
+        MockBukkit.load(CustomArmor.class);
+        return server;
+    }
+
+    public static void stop() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Adds a player whose inventory looks like a mid-game player's, see {@link #fillInventory}
+     */
+    public static PlayerMock addPlayer(ServerMock server, long seed) {
+        PlayerMock player = server.addPlayer();
+        fillInventory(player, new Random(seed));
+        CustomArmor.getInstance().getInventoryTracker().rescan(player);
+        CustomArmor.getInstance().getArmorStateCache().recompute(player);
+        return player;
+    }
+
+    /**
+     * Fills all 41 slots the way a real inventory looks: a few essence stacks, worn pieces up to tier 3,
+     * a carried piece, tools, blocks and food with a handful of empty slots, shuffled
+     */
+    public static void fillInventory(Player player, Random random) {
+        PlayerInventory inventory = player.getInventory();
+        inventory.clear();
+
+        ArmorRegistry registry = CustomArmor.getInstance().getArmorRegistry();
+        inventory.setHelmet(registry.getArmorPiece(1 + random.nextInt(3), ArmorPart.HEAD).clone());
+        inventory.setChestplate(registry.getArmorPiece(1 + random.nextInt(3), ArmorPart.CHESTPLATE).clone());
+        inventory.setBoots(registry.getArmorPiece(1 + random.nextInt(3), ArmorPart.BOOTS).clone());
+        inventory.setItemInOffHand(new ItemStack(Material.SHIELD));
+
+        // Essence and a carried piece first, then the rest of the storage slots
+        EssenceUtils.giveEssence(player, 64 * 3 + random.nextInt(64));
+        ArmorUtils.giveArmor(player, 1 + random.nextInt(2), ArmorPart.LEGGINGS);
+
+        ItemStack[] contents = inventory.getContents();
+        for (int slot = 0; slot < STORAGE_SLOTS; slot++) {
+            if (contents[slot] == null && random.nextInt(6) != 0) {
+                Material material = FILLER[random.nextInt(FILLER.length)];
+                contents[slot] = new ItemStack(material, 1 + random.nextInt(material.getMaxStackSize()));
+            }
+        }
+        for (int slot = STORAGE_SLOTS - 1; slot > 0; slot--) {
+            int other = random.nextInt(slot + 1);
+            ItemStack swap = contents[slot];
+            contents[slot] = contents[other];
+            contents[other] = swap;
+        }
+        inventory.setContents(contents);
+    }
+
+    /**
+     * Deep copy of an inventory's contents, for restoring it between invocations
+     */
+    public static ItemStack[] snapshot(Player player) {
+        ItemStack[] contents = player.getInventory().getContents();
+        ItemStack[] copy = new ItemStack[contents.length];
+        for (int slot = 0; slot < contents.length; slot++) {
+            copy[slot] = contents[slot] != null ? contents[slot].clone() : null;
+        }
+        return copy;
+    }
+
+    public static void restore(Player player, ItemStack[] snapshot) {
+        ItemStack[] copy = new ItemStack[snapshot.length];
+        for (int slot = 0; slot < snapshot.length; slot++) {
+            copy[slot] = snapshot[slot] != null ? snapshot[slot].clone() : null;
+        }
+        player.getInventory().setContents(copy);
+        CustomArmor.getInstance().getInventoryTracker().rescan(player);
+    }
+}
@@ -0,0 +1,68 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.data.InventoryIndex;
+import me.macmoment.customarmor.utils.EssenceUtils;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Essence lookups on a full 41-slot inventory: the cached balance, a plain essence scan,
+ * and the single-pass rebuild of the whole inventory index
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EssenceBenchmark {
+    private PlayerMock player;
+
+    @Setup
+    public void setUp() {
+        ServerMock server = BenchmarkServer.start();
+        player = BenchmarkServer.addPlayer(server, 42L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public int cachedBalance() {
+        return EssenceUtils.getPlayerEssence(player);
+    }
+
+    @Benchmark
+    public int fullScan() {
+        // Baseline: what every balance lookup cost before the inventory index was cached
+        int total = 0;
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (EssenceUtils.isEssence(item)) {
+                total += item.getAmount();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public InventoryIndex rebuildIndex() {
+        return CustomArmor.getInstance().getInventoryTracker().rescan(player);
+    }
+}
@@ -0,0 +1,58 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.gui.ArmorGUI;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ArmorGUI#openGUI}: opening the browser from scratch, and moving between pages of an open browser
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuiBenchmark {
+    private PlayerMock player;
+    private int maxTier;
+    private int page = 1;
+
+    @Setup
+    public void setUp() {
+        ServerMock server = BenchmarkServer.start();
+        player = BenchmarkServer.addPlayer(server, 42L);
+        maxTier = CustomArmor.getInstance().getArmorRegistry().getMaxTier();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public void openFresh() {
+        player.closeInventory();
+        ArmorGUI.openGUI(player, 1);
+    }
+
+    @Benchmark
+    public void navigateInPlace() {
+        page = page % maxTier + 1;
+        ArmorGUI.openGUI(player, page);
+    }
+}
@@ -0,0 +1,369 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.InventoryIndex;
+import me.macmoment.customarmor.gui.ArmorBrowserHolder;
+import me.macmoment.customarmor.gui.ClickGovernor;
+import me.macmoment.customarmor.utils.EssenceUtils;
+import me.macmoment.customarmor.utils.HeadTextureCache;
+import me.macmoment.customarmor.utils.TextCache;
+import me.macmoment.customarmor.utils.TextUtils;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.InventoryView;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Headless load test: N simulated players browsing and buying in the armor browser at the same time.
+ * <p>
+ * Runs on MockBukkit with the real plugin. Every simulated click goes through the registered listeners as an
+ * {@link InventoryClickEvent}, players open the browser with {@code /armor}, and essence is topped up with
+ * {@code /armoradmin giveessence}. Each simulated tick runs the players' clicks, then the scheduler, like a
+ * server tick. The report covers tick time percentiles, time and allocation per operation, and cache hit
+ * rates. It is printed and also written as JSON.
+ * </p>
+ *
+ * <pre>
+ * mvn -P benchmark verify -Dbenchmark.main=me.macmoment.customarmor.benchmark.LoadHarness \
+ *     -Dbenchmark.args="players=500 ticks=1200 activity=0.2 mix=navigate=50,buy=20,upgrade=20,spam=10"
+ * </pre>
+ *
+ * Options are {@code key=value} pairs: {@code players}, {@code ticks}, {@code warmup-ticks}, {@code activity}
+ * (chance that a player acts in a tick), {@code mix} (relative weights), {@code spam-clicks}, {@code seed},
+ * {@code output} (JSON report path).
+ */
+public final class LoadHarness {
+
+    enum Operation {
+        /** Previous or next page */
+        NAVIGATE,
+        /** Click a piece on the page shown */
+        BUY,
+        /** Go to the page one above an owned piece and buy it */
+        UPGRADE,
+        /** A burst of clicks on one piece within a single tick, like an autoclicker */
+        SPAM,
+        /** Re-open the browser with /armor */
+        OPEN
+    }
+
+    private final ServerMock server;
+    private final Options options;
+    private final Random random;
+    private final List<PlayerMock> players = new ArrayList<>();
+    private final Map<Operation, OperationStats> operationStats = new EnumMap<>(Operation.class);
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private LoadHarness(ServerMock server, Options options) {
+        this.server = server;
+        this.options = options;
+        this.random = new Random(options.seed);
+        for (Operation operation : Operation.values()) {
+            operationStats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        ServerMock server = BenchmarkServer.start();
+        try {
+            LoadHarness harness = new LoadHarness(server, options);
+            harness.spawnPlayers();
+
+            harness.runTicks(options.warmupTicks);
+            harness.resetStats();
+            long[] tickNanos = harness.runTicks(options.ticks);
+
+            String report = harness.report(tickNanos);
+            System.out.println(report);
+            Path output = Path.of(options.output);
+            if (output.getParent() != null) Files.createDirectories(output.getParent());
+            Files.writeString(output, report);
+            System.out.println("Report written to " + output.toAbsolutePath());
+        } finally {
+            BenchmarkServer.stop();
+        }
+    }
+
+    // ==================== Simulation ====================
+
+    private void spawnPlayers() {
+        for (int i = 0; i < options.players; i++) {
+            PlayerMock player = BenchmarkServer.addPlayer(server, options.seed + i);
+            player.setOp(true);
+            player.performCommand("armor");
+            players.add(player);
+        }
+    }
+
+    private long[] runTicks(int ticks) {
+        long[] tickNanos = new long[ticks];
+        for (int tick = 0; tick < ticks; tick++) {
+            long start = System.nanoTime();
+            for (PlayerMock player : players) {
+                if (random.nextDouble() < options.activity) {
+                    act(player);
+                }
+            }
+            // Scheduled work, e.g. the browser renders coalesced by the click governor
+            server.getScheduler().performOneTick();
+            tickNanos[tick] = System.nanoTime() - start;
+        }
+        return tickNanos;
+    }
+
+    private void act(PlayerMock player) {
+        if (EssenceUtils.getPlayerEssence(player) < options.topUpBelow) {
+            server.dispatchCommand(server.getConsoleSender(), "armoradmin giveessence " + player.getName() + " 1000");
+        }
+
+        Operation operation = options.pick(random);
+        if (!(player.getOpenInventory().getTopInventory().getHolder(false) instanceof ArmorBrowserHolder)) {
+            operation = Operation.OPEN;
+        }
+
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        perform(player, operation);
+        long elapsed = System.nanoTime() - start;
+        operationStats.get(operation).record(elapsed, threads.getCurrentThreadAllocatedBytes() - allocated);
+    }
+
+    private void perform(PlayerMock player, Operation operation) {
+        ConfigSnapshot.Slots slots = CustomArmor.getInstance().getConfigManager().getSnapshot().gui().slots();
+        switch (operation) {
+            case NAVIGATE:
+                click(player, random.nextBoolean() ? slots.next() : slots.previous());
+                break;
+            case BUY:
+                click(player, pieceSlot(slots, randomPart()));
+                break;
+            case UPGRADE: {
+                ArmorPart part = randomPart();
+                InventoryIndex index = CustomArmor.getInstance().getInventoryTracker().get(player);
+                ArmorBrowserHolder holder = (ArmorBrowserHolder) player.getOpenInventory().getTopInventory().getHolder(false);
+                // Walk one page towards the next tier up, buying once the browser is there
+                int target = Math.min(index.getOwnedTier(part) + 1, CustomArmor.getInstance().getArmorRegistry().getMaxTier());
+                if (holder.getPage() < target) {
+                    click(player, slots.next());
+                } else if (holder.getPage() > target) {
+                    click(player, slots.previous());
+                } else {
+                    click(player, pieceSlot(slots, part));
+                }
+                break;
+            }
+            case SPAM: {
+                int slot = pieceSlot(slots, randomPart());
+                for (int i = 0; i < options.spamClicks; i++) {
+                    click(player, slot);
+                }
+                break;
+            }
+            case OPEN:
+                player.performCommand("armor");
+                break;
+        }
+    }
+
+    private void click(PlayerMock player, int rawSlot) {
+        InventoryView view = player.getOpenInventory();
+        InventoryClickEvent event = new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, rawSlot,
+            ClickType.LEFT, InventoryAction.PICKUP_ALL);
+        server.getPluginManager().callEvent(event);
+    }
+
+    private ArmorPart randomPart() {
+        return ArmorPart.values()[random.nextInt(ArmorPart.values().length)];
+    }
+
+    private static int pieceSlot(ConfigSnapshot.Slots slots, ArmorPart part) {
+        switch (part) {
+            case HEAD:
+                return slots.helmet();
+            case CHESTPLATE:
+                return slots.chestplate();
+            case LEGGINGS:
+                return slots.leggings();
+            default:
+                return slots.boots();
+        }
+    }
+
+    private void resetStats() {
+        operationStats.values().forEach(OperationStats::reset);
+    }
+
+    // ==================== Report ====================
+
+    private String report(long[] tickNanos) {
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        ClickGovernor governor = CustomArmor.getInstance().getClickGovernor();
+        TextCache<String> legacy = TextUtils.getLegacyCache();
+        TextCache<?> components = TextUtils.getComponentCache();
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"players\": ").append(options.players).append(",\n");
+        json.append("  \"ticks\": ").append(options.ticks).append(",\n");
+        json.append("  \"activity\": ").append(format(options.activity)).append(",\n");
+        json.append("  \"tickMillis\": {")
+            .append("\"p50\": ").append(millis(percentile(sorted, 0.50))).append(", ")
+            .append("\"p90\": ").append(millis(percentile(sorted, 0.90))).append(", ")
+            .append("\"p99\": ").append(millis(percentile(sorted, 0.99))).append(", ")
+            .append("\"max\": ").append(millis(sorted[sorted.length - 1])).append(", ")
+            .append("\"overBudget\": ").append(countOver(sorted, 50_000_000L)).append("},\n");
+
+        json.append("  \"operations\": {\n");
+        int remaining = operationStats.size();
+        for (Map.Entry<Operation, OperationStats> entry : operationStats.entrySet()) {
+            OperationStats stats = entry.getValue();
+            json.append("    \"").append(entry.getKey().name().toLowerCase(Locale.ROOT)).append("\": {")
+                .append("\"count\": ").append(stats.count).append(", ")
+                .append("\"meanMicros\": ").append(format(stats.count == 0 ? 0 : stats.nanos / 1000.0 / stats.count)).append(", ")
+                .append("\"bytesPerOp\": ").append(stats.count == 0 ? 0 : stats.bytes / stats.count).append("}")
+                .append(--remaining > 0 ? ",\n" : "\n");
+        }
+        json.append("  },\n");
+
+        json.append("  \"caches\": {")
+            .append("\"legacyTextHitRate\": ").append(format(legacy.getHitRate())).append(", ")
+            .append("\"componentHitRate\": ").append(format(components.getHitRate())).append(", ")
+            .append("\"textEvictions\": ").append(legacy.getEvictions() + components.getEvictions()).append(", ")
+            .append("\"headTextures\": ").append(HeadTextureCache.size()).append("},\n");
+
+        json.append("  \"clickGovernor\": {")
+            .append("\"duplicateClicks\": ").append(governor.getDuplicateClicks()).append(", ")
+            .append("\"rejectedPurchases\": ").append(governor.getRejectedPurchases()).append(", ")
+            .append("\"coalescedRenders\": ").append(governor.getCoalescedRenders()).append("}\n");
+        json.append("}");
+        return json.toString();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static int countOver(long[] sorted, long limit) {
+        int count = 0;
+        for (long value : sorted) {
+            if (value > limit) count++;
+        }
+        return count;
+    }
+
+    private static String millis(long nanos) {
+        return format(nanos / 1_000_000.0);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static final class OperationStats {
+        private long count;
+        private long nanos;
+        private long bytes;
+
+        void record(long elapsed, long allocated) {
+            count++;
+            nanos += elapsed;
+            bytes += allocated;
+        }
+
+        void reset() {
+            count = 0;
+            nanos = 0;
+            bytes = 0;
+        }
+    }
+
+    // ==================== Options ====================
+
+    private static final class Options {
+        private int players = 500;
+        private int ticks = 1200;
+        private int warmupTicks = 200;
+        private double activity = 0.2;
+        private int spamClicks = 10;
+        private int topUpBelow = 300;
+        private long seed = 42L;
+        private String output = "target/load-report.json";
+        private final Map<Operation, Integer> mix = new EnumMap<>(Map.of(
+            Operation.NAVIGATE, 50, Operation.BUY, 20, Operation.UPGRADE, 20, Operation.SPAM, 10));
+        private int mixTotal = 100;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                // Split on the first '=' only; the mix value has its own
+                String[] pair = arg.split("=", 2);
+                if (pair.length < 2) {
+                    throw new IllegalArgumentException("Expected key=value, got " + arg);
+                }
+                String value = pair[1];
+                switch (pair[0]) {
+                    case "players" -> options.players = Integer.parseInt(value);
+                    case "ticks" -> options.ticks = Integer.parseInt(value);
+                    case "warmup-ticks" -> options.warmupTicks = Integer.parseInt(value);
+                    case "activity" -> options.activity = Double.parseDouble(value);
+                    case "spam-clicks" -> options.spamClicks = Integer.parseInt(value);
+                    case "seed" -> options.seed = Long.parseLong(value);
+                    case "output" -> options.output = value;
+                    case "mix" -> options.parseMix(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + pair[0]);
+                }
+            }
+            if (options.ticks < 1 || options.players < 1) {
+                throw new IllegalArgumentException("players and ticks must be at least 1");
+            }
+            return options;
+        }
+
+        /**
+         * Parses {@code navigate=50,buy=20,upgrade=20,spam=10}; operations left out get weight 0
+         */
+        private void parseMix(String value) {
+            mix.clear();
+            mixTotal = 0;
+            for (String part : value.split(",")) {
+                String[] pair = part.split("=", 2);
+                int weight = Integer.parseInt(pair[1].trim());
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+                mixTotal += weight;
+            }
+            if (mixTotal <= 0) {
+                throw new IllegalArgumentException("mix needs at least one positive weight");
+            }
+        }
+
+        Operation pick(Random random) {
+            int roll = random.nextInt(mixTotal);
+            for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+                roll -= entry.getValue();
+                if (roll < 0) return entry.getKey();
+            }
+            return Operation.NAVIGATE;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.data.ArmorRegistry;
+import me.macmoment.customarmor.data.ArmorTier;
+import me.macmoment.customarmor.gui.ArmorGUI;
+import me.macmoment.customarmor.gui.TierRender;
+import me.macmoment.customarmor.utils.PlaceholderContext;
+import me.macmoment.customarmor.utils.PlaceholderTemplate;
+import me.macmoment.customarmor.utils.TextUtils;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placeholder expansion of the armor piece lore, the way the GUI builds it, and a full tier page pre-render
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoreBenchmark {
+    private ConfigManager config;
+    private ArmorRegistry registry;
+    private ArmorTier tier;
+
+    @Setup
+    public void setUp() {
+        BenchmarkServer.start();
+        config = CustomArmor.getInstance().getConfigManager();
+        registry = CustomArmor.getInstance().getArmorRegistry();
+        tier = registry.getTier(5);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    /**
+     * Same work as ArmorGUI.buildArmorPieceLore: render every lore template, then colorize it
+     */
+    @Benchmark
+    public List<Component> armorPieceLore() {
+        List<PlaceholderTemplate> templates = config.getArmorPieceLoreTemplates();
+        PlaceholderContext context = new PlaceholderContext(config.getAccentColor()).tier(tier);
+        List<Component> lore = new ArrayList<>(templates.size());
+        for (PlaceholderTemplate template : templates) {
+            lore.add(TextUtils.colorizeToComponent(template.render(context)));
+        }
+        return lore;
+    }
+
+    @Benchmark
+    public TierRender renderTierPage() {
+        return ArmorGUI.renderTier(tier, registry.getTier(4), registry.getTier(6), registry.getMaxTier(), config);
+    }
+}
@@ -0,0 +1,148 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.metrics.Metrics;
+import me.macmoment.customarmor.metrics.PrometheusExporter;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Offline check of the Prometheus endpoint: starts the exporter on an ephemeral loopback port next to a
+ * MockBukkit server, scrapes {@code /metrics} with HttpClient and validates the text exposition format
+ * <p>
+ * Fails with a non-zero exit status and the list of problems if the scrape is malformed.
+ * </p>
+ *
+ * <pre>
+ * mvn -P benchmark verify -Dbenchmark.main=me.macmoment.customarmor.benchmark.MetricsScrapeCheck -Dbenchmark.args=
+ * </pre>
+ */
+public final class MetricsScrapeCheck {
+    private static final Pattern TYPE_LINE = Pattern.compile("# TYPE ([a-zA-Z_:][a-zA-Z0-9_:]*) (counter|gauge|summary)");
+    private static final Pattern HELP_LINE = Pattern.compile("# HELP ([a-zA-Z_:][a-zA-Z0-9_:]*) .+");
+    private static final Pattern SAMPLE_LINE = Pattern.compile(
+        "([a-zA-Z_:][a-zA-Z0-9_:]*)(\\{[a-zA-Z_][a-zA-Z0-9_]*=\"[^\"]*\"(,[a-zA-Z_][a-zA-Z0-9_]*=\"[^\"]*\")*})? "
+            + "(-?[0-9.]+([eE][-+]?[0-9]+)?|NaN|[+-]Inf)");
+
+    private MetricsScrapeCheck() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ServerMock server = BenchmarkServer.start();
+        PrometheusExporter exporter = new PrometheusExporter(CustomArmor.getInstance().getLogger());
+        try {
+            // Give the timers and counters something to report
+            Metrics.setEnabled(true);
+            PlayerMock player = BenchmarkServer.addPlayer(server, 42L);
+            player.setOp(true);
+            player.performCommand("armor");
+            server.getScheduler().performOneTick();
+
+            exporter.apply(new ConfigSnapshot.Metrics(true, true, "127.0.0.1", 0));
+            int port = exporter.getPort();
+            if (port <= 0) {
+                throw new IllegalStateException("Metrics endpoint did not start");
+            }
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            URI uri = URI.create("http://127.0.0.1:" + port + "/metrics");
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            HttpResponse<Void> post = client.send(HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.discarding());
+
+            List<String> problems = new ArrayList<>();
+            if (response.statusCode() != 200) {
+                problems.add("GET /metrics returned " + response.statusCode());
+            }
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            if (!contentType.startsWith("text/plain; version=0.0.4")) {
+                problems.add("unexpected Content-Type '" + contentType + "'");
+            }
+            if (post.statusCode() != 405) {
+                problems.add("POST /metrics returned " + post.statusCode() + ", expected 405");
+            }
+            problems.addAll(validate(response.body()));
+
+            for (String required : List.of("customarmor_metrics_enabled 1.0", "customarmor_gui_open_seconds_count ",
+                    "customarmor_purchases_purchased_total ", "customarmor_text_cache_hit_ratio{cache=\"legacy\"} ")) {
+                if (!response.body().contains(required)) {
+                    problems.add("missing sample '" + required.trim() + "'");
+                }
+            }
+
+            if (!problems.isEmpty()) {
+                System.err.println(response.body());
+                problems.forEach(problem -> System.err.println("FAIL: " + problem));
+                throw new IllegalStateException(problems.size() + " problem(s) in the /metrics scrape");
+            }
+            System.out.println("Scraped " + response.body().lines().count() + " lines from " + uri + ", format OK");
+        } finally {
+            exporter.stop();
+            BenchmarkServer.stop();
+        }
+    }
+
+    /**
+     * Checks every line against the text format, and that each sample belongs to a family declared by a
+     * preceding TYPE line (summaries also own their {@code _sum} and {@code _count} series)
+     */
+    static List<String> validate(String body) {
+        List<String> problems = new ArrayList<>();
+        Set<String> families = new HashSet<>();
+        Set<String> summaries = new HashSet<>();
+        if (!body.endsWith("\n")) {
+            problems.add("body does not end with a newline");
+        }
+
+        int lineNumber = 0;
+        for (String line : body.split("\n")) {
+            lineNumber++;
+            if (line.startsWith("# HELP ")) {
+                if (!HELP_LINE.matcher(line).matches()) problems.add(lineNumber + ": malformed HELP: " + line);
+                continue;
+            }
+            if (line.startsWith("# TYPE ")) {
+                Matcher type = TYPE_LINE.matcher(line);
+                if (!type.matches()) {
+                    problems.add(lineNumber + ": malformed TYPE: " + line);
+                } else if (!families.add(type.group(1))) {
+                    problems.add(lineNumber + ": family declared twice: " + type.group(1));
+                } else if (type.group(2).equals("summary")) {
+                    summaries.add(type.group(1));
+                }
+                continue;
+            }
+
+            Matcher sample = SAMPLE_LINE.matcher(line);
+            if (!sample.matches()) {
+                problems.add(lineNumber + ": malformed sample: " + line);
+                continue;
+            }
+            String name = sample.group(1);
+            String family = name;
+            if (name.endsWith("_sum") || name.endsWith("_count")) {
+                String base = name.substring(0, name.lastIndexOf('_'));
+                if (summaries.contains(base)) family = base;
+            }
+            if (!families.contains(family)) {
+                problems.add(lineNumber + ": sample without a TYPE line: " + line);
+            }
+        }
+        return problems;
+    }
+}
@@ -0,0 +1,73 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.shop.PurchaseEngine;
+import me.macmoment.customarmor.shop.PurchaseResult;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The purchase flow through {@link PurchaseEngine}: upgrading a carried and a worn piece, and a refusal
+ * The inventory is restored before every call; that costs more than a purchase, so JMH's per-invocation
+ * setup warning applies and the numbers are best compared with each other and across commits
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PurchaseBenchmark {
+    private PlayerMock player;
+    private ItemStack[] inventory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ServerMock server = BenchmarkServer.start();
+        player = BenchmarkServer.addPlayer(server, 42L);
+        inventory = BenchmarkServer.snapshot(player);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetInventory() {
+        BenchmarkServer.restore(player, inventory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    /** The fixture player carries tier 1-2 leggings in a storage slot */
+    @Benchmark
+    public PurchaseResult upgradeCarriedPiece() {
+        return PurchaseEngine.purchase(player, 4, ArmorPart.LEGGINGS);
+    }
+
+    /** The fixture player wears a tier 1-3 helmet */
+    @Benchmark
+    public PurchaseResult upgradeWornPiece() {
+        return PurchaseEngine.purchase(player, 4, ArmorPart.HEAD);
+    }
+
+    /** Tier 10 costs more essence than the fixture player has */
+    @Benchmark
+    public PurchaseResult refusedForEssence() {
+        return PurchaseEngine.purchase(player, 10, ArmorPart.CHESTPLATE);
+    }
+}
@@ -0,0 +1,62 @@
+package me.macmoment.customarmor.benchmark;
+
+import me.macmoment.customarmor.utils.TextUtils;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TextUtils#colorize} and {@link TextUtils#parse}, served from the cache and computed fresh
+ * The uncached variants append a counter so every call misses (and evicts once the cache is full)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark {
+    private static final String LEGACY = "&7You have <##FFAA00>64x Armor Essence&7! &8(&a-15 discount&8)";
+    private static final String GRADIENT = "<gradient:#8B00FF:#FF1493>Armor Essence</gradient> &7(Tier 7)";
+
+    private long counter;
+
+    @Benchmark
+    public String colorizeCached() {
+        return TextUtils.colorize(LEGACY);
+    }
+
+    @Benchmark
+    public String colorizeUncached() {
+        return TextUtils.colorize(LEGACY + counter++);
+    }
+
+    @Benchmark
+    public Component parseLegacyCached() {
+        return TextUtils.parse(LEGACY);
+    }
+
+    @Benchmark
+    public Component parseLegacyUncached() {
+        return TextUtils.parse(LEGACY + counter++);
+    }
+
+    @Benchmark
+    public Component parseGradientCached() {
+        return TextUtils.parse(GRADIENT);
+    }
+
+    @Benchmark
+    public Component parseGradientUncached() {
+        return TextUtils.parse(GRADIENT + counter++);
+    }
+}
@@ -1,13 +1,36 @@
 package me.macmoment.customarmor;
 
+import me.macmoment.customarmor.api.ArmorApiService;
+import me.macmoment.customarmor.api.CustomArmorAPI;
 import me.macmoment.customarmor.commands.ArmorAdminCommand;
 import me.macmoment.customarmor.commands.ArmorCommand;
 import me.macmoment.customarmor.commands.EssenceCommand;
 import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.config.InvalidConfigException;
+import me.macmoment.customarmor.config.ReloadInProgressException;
+import me.macmoment.customarmor.gui.ArmorGUI;
+import me.macmoment.customarmor.gui.ClickGovernor;
 import me.macmoment.customarmor.data.ArmorRegistry;
+import me.macmoment.customarmor.data.ArmorStateCache;
+import me.macmoment.customarmor.data.InventoryTracker;
+import me.macmoment.customarmor.listeners.ArmorEffectListener;
+import me.macmoment.customarmor.listeners.ArmorEquipListener;
 import me.macmoment.customarmor.listeners.ArmorGUIListener;
+import me.macmoment.customarmor.listeners.InventoryTrackingListener;
+import me.macmoment.customarmor.metrics.Metrics;
+import me.macmoment.customarmor.metrics.PrometheusExporter;
+import me.macmoment.customarmor.utils.ArmorUtils;
+import me.macmoment.customarmor.utils.HeadTextureCache;
+import me.macmoment.customarmor.utils.TextUtils;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
 /**
  * Main plugin class for CustomArmor system
  * Converted from Skript - maintains exact behavior
@@ -16,32 +39,87 @@ public class CustomArmor extends JavaPlugin {
 
     private static CustomArmor instance;
     private ConfigManager configManager;
-    private ArmorRegistry armorRegistry;
+    private volatile ArmorRegistry armorRegistry;
+    private InventoryTracker inventoryTracker;
+    private ArmorStateCache armorStateCache;
+    private ClickGovernor clickGovernor;
+    private PrometheusExporter metricsExporter;
+    private ArmorApiService apiService;
+    private final AtomicBoolean reloading = new AtomicBoolean();
 
     @Override
     public void onEnable() {
         instance = this;
+        long enableStart = System.nanoTime();
         
         // Load configuration
-        configManager = new ConfigManager(this);
+        long phaseStart = System.nanoTime();
+        try {
+            configManager = new ConfigManager(this);
+        } catch (InvalidConfigException e) {
+            getLogger().severe("config.yml is invalid, disabling CustomArmor:");
+            e.getProblems().forEach(problem -> getLogger().severe(" - " + problem));
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
+        Metrics.setEnabled(configManager.getSnapshot().metrics().enabled());
+        Metrics.recordEnablePhase("config", System.nanoTime() - phaseStart);
         
         // Initialize armor registry with all 10 tiers from config
+        phaseStart = System.nanoTime();
         armorRegistry = new ArmorRegistry(configManager);
         armorRegistry.registerAllArmors();
+        ArmorGUI.rebuildPages(armorRegistry, configManager);
+        Metrics.recordEnablePhase("registry", System.nanoTime() - phaseStart);
+        
+        // Public API; the caches below report player changes to it
+        apiService = new ArmorApiService(this);
+        
+        // Per-player inventory index (essence balance), built on join and kept current by events
+        inventoryTracker = new InventoryTracker();
+        
+        // Per-player equipped armor state, recomputed on equipment changes
+        armorStateCache = new ArmorStateCache();
+        
+        // Per-player click limits and render coalescing for the armor browser
+        clickGovernor = new ClickGovernor();
         
         // Register commands
+        phaseStart = System.nanoTime();
         getCommand("armoradmin").setExecutor(new ArmorAdminCommand());
         getCommand("armor").setExecutor(new ArmorCommand());
         getCommand("essence").setExecutor(new EssenceCommand());
         
         // Register listeners
         getServer().getPluginManager().registerEvents(new ArmorGUIListener(), this);
+        getServer().getPluginManager().registerEvents(new InventoryTrackingListener(), this);
+        getServer().getPluginManager().registerEvents(new ArmorEquipListener(), this);
+        getServer().getPluginManager().registerEvents(new ArmorEffectListener(), this);
+        getServer().getPluginManager().registerEvents(apiService, this);
+        getServer().getServicesManager().register(CustomArmorAPI.class, apiService, this, ServicePriority.Normal);
+        Metrics.recordEnablePhase("commands-and-listeners", System.nanoTime() - phaseStart);
+        Metrics.recordEnablePhase("total", System.nanoTime() - enableStart);
+        
+        // Optional Prometheus endpoint, served off the main thread
+        metricsExporter = new PrometheusExporter(getLogger());
+        metricsExporter.apply(configManager.getSnapshot().metrics());
         
-        getLogger().info("CustomArmor has been enabled with " + armorRegistry.getMaxTier() + " armor tiers!");
+        getLogger().info("CustomArmor has been enabled with " + armorRegistry.getTierCount() + " armor tiers!");
     }
 
     @Override
     public void onDisable() {
+        ArmorGUI.closeAllSessions();
+        if (clickGovernor != null) {
+            clickGovernor.clear();
+        }
+        if (apiService != null) {
+            getServer().getServicesManager().unregister(CustomArmorAPI.class, apiService);
+            apiService.clear();
+        }
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+        }
         getLogger().info("CustomArmor has been disabled!");
     }
 
@@ -56,18 +134,103 @@ public class CustomArmor extends JavaPlugin {
     public ArmorRegistry getArmorRegistry() {
         return armorRegistry;
     }
+
+    public InventoryTracker getInventoryTracker() {
+        return inventoryTracker;
+    }
+
+    public ArmorStateCache getArmorStateCache() {
+        return armorStateCache;
+    }
+
+    public ClickGovernor getClickGovernor() {
+        return clickGovernor;
+    }
+
+    public ArmorApiService getApiService() {
+        return apiService;
+    }
     
     /**
-     * Reloads the plugin configuration and armor registry
+     * Reloads the plugin configuration and armor registry without blocking the server
+     * <p>
+     * config.yml is parsed and validated, and the tier tables of a new registry are built from it, on an async
+     * thread. Item prototypes and pages are then built and everything is published in one main-thread task,
+     * so the main thread never sees an empty or half-built registry and no item is created off it. Open armor browsers re-render on their next click because their config version is stale.
+     * If anything fails, the current configuration and registry stay in effect untouched.
+     * </p>
+     *
+     * @return completes on the main thread with the new snapshot once it is live, or exceptionally with an
+     *         {@link InvalidConfigException} if config.yml was rejected, a {@link ReloadInProgressException} if a
+     *         reload is already running, or whatever building or publishing the registry threw
      */
-    public void reloadPlugin() {
-        // Reload config
-        configManager.reloadConfig();
-        
-        // Clear and re-register armor tiers
-        armorRegistry.clearTiers();
-        armorRegistry.registerAllArmors();
-        
-        getLogger().info("Configuration and armor tiers reloaded!");
+    public CompletableFuture<ConfigSnapshot> reloadPlugin() {
+        CompletableFuture<ConfigSnapshot> result = new CompletableFuture<>();
+        if (!reloading.compareAndSet(false, true)) {
+            result.completeExceptionally(new ReloadInProgressException());
+            return result;
+        }
+
+        long start = Metrics.start();
+        saveDefaultConfig();
+        getServer().getScheduler().runTaskAsynchronously(this, () -> {
+            ConfigSnapshot snapshot;
+            ArmorRegistry registry;
+            try {
+                snapshot = configManager.loadSnapshot();
+                registry = new ArmorRegistry(ConfigManager.detached(snapshot));
+                // Only the tables here; item prototypes need the main thread and are built in publish()
+                registry.loadTiers();
+            } catch (InvalidConfigException | RuntimeException e) {
+                if (!(e instanceof InvalidConfigException)) {
+                    getLogger().log(Level.SEVERE, "Reload failed, keeping the previous configuration", e);
+                }
+                getServer().getScheduler().runTask(this, () -> {
+                    reloading.set(false);
+                    result.completeExceptionally(e);
+                });
+                return;
+            }
+
+            getServer().getScheduler().runTask(this, () -> {
+                try {
+                    publish(snapshot, registry);
+                } catch (RuntimeException e) {
+                    getLogger().log(Level.SEVERE, "Reload failed while publishing the new configuration", e);
+                    result.completeExceptionally(e);
+                    return;
+                } finally {
+                    // Released whatever happened, so a failed publish doesn't block every later reload
+                    reloading.set(false);
+                }
+                Metrics.CONFIG_RELOAD.stop(start);
+                getLogger().info("Configuration and armor tiers reloaded!");
+                result.complete(snapshot);
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Swaps in a reloaded snapshot and the registry built from it
+     */
+    private void publish(ConfigSnapshot snapshot, ArmorRegistry registry) {
+        // Cleared first, so the caches refill from the items rendered below rather than losing them
+        TextUtils.clearCaches();
+        registry.buildPrototypes();
+        configManager.publish(snapshot);
+        armorRegistry = registry;
+        // Browser pages are GUI items, so they are built here on the main thread rather than with the registry
+        ArmorGUI.rebuildPages(registry, configManager);
+
+        // Effect factors are stacked with the config's rules and worn pieces may carry outdated attributes
+        for (Player player : getServer().getOnlinePlayers()) {
+            ArmorUtils.refreshWornAttributes(player, snapshot);
+            armorStateCache.recompute(player);
+        }
+
+        HeadTextureCache.retainOnly(registry.getHeadTextures());
+        Metrics.setEnabled(snapshot.metrics().enabled());
+        metricsExporter.apply(snapshot.metrics());
     }
 }
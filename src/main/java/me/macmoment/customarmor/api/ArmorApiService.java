@@ -0,0 +1,181 @@
+package me.macmoment.customarmor.api;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorTier;
+import me.macmoment.customarmor.data.PlayerArmorState;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+
+/**
+ * The {@link CustomArmorAPI} implementation registered with the ServicesManager
+ * <p>
+ * The inventory tracker and armor state cache report every change through {@link #markChanged(Player)}.
+ * Changed players are collected and rebuilt once on the next tick, so a burst of inventory events costs one
+ * snapshot; readers on any thread only ever see complete, published snapshots.
+ * </p>
+ */
+public class ArmorApiService implements CustomArmorAPI, Listener {
+    private final CustomArmor plugin;
+    private final Map<UUID, ArmorSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final List<Registration> listeners = new CopyOnWriteArrayList<>();
+
+    // Main thread only
+    private final Set<UUID> changed = new LinkedHashSet<>();
+    private boolean flushScheduled;
+
+    public ArmorApiService(CustomArmor plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public int getApiVersion() {
+        return API_VERSION;
+    }
+
+    // ==================== Players ====================
+
+    @Override
+    public ArmorSnapshot getSnapshot(UUID playerId) {
+        return snapshots.get(playerId);
+    }
+
+    @Override
+    public Map<UUID, ArmorSnapshot> getSnapshots(Collection<UUID> playerIds) {
+        Map<UUID, ArmorSnapshot> result = new HashMap<>(Math.max(4, playerIds.size() * 2));
+        for (UUID playerId : playerIds) {
+            ArmorSnapshot snapshot = snapshots.get(playerId);
+            if (snapshot != null) {
+                result.put(playerId, snapshot);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<ArmorSnapshot> getAllSnapshots() {
+        return List.copyOf(snapshots.values());
+    }
+
+    @Override
+    public void addListener(Plugin owner, ArmorSnapshotListener listener) {
+        listeners.add(new Registration(owner, listener));
+    }
+
+    @Override
+    public void removeListener(ArmorSnapshotListener listener) {
+        listeners.removeIf(registration -> registration.listener == listener);
+    }
+
+    @EventHandler
+    public void onPluginDisable(PluginDisableEvent event) {
+        listeners.removeIf(registration -> registration.owner.equals(event.getPlugin()));
+    }
+
+    // ==================== Tiers ====================
+
+    @Override
+    public ArmorTier getTier(int tier) {
+        return plugin.getArmorRegistry().getTier(tier);
+    }
+
+    @Override
+    public List<ArmorTier> getTiers() {
+        return plugin.getArmorRegistry().getTiers();
+    }
+
+    @Override
+    public int getMaxTier() {
+        return plugin.getArmorRegistry().getMaxTier();
+    }
+
+    // ==================== Updates ====================
+
+    /**
+     * Queues the player's snapshot for a rebuild on the next tick
+     * Called from the main thread whenever their armor or essence may have changed
+     */
+    public void markChanged(Player player) {
+        if (!Bukkit.isPrimaryThread()) return;
+        changed.add(player.getUniqueId());
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    /**
+     * Drops a player's snapshot when they leave
+     */
+    public void remove(UUID playerId) {
+        snapshots.remove(playerId);
+        changed.remove(playerId);
+    }
+
+    public void clear() {
+        snapshots.clear();
+        changed.clear();
+        listeners.clear();
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        if (changed.isEmpty()) return;
+        UUID[] pending = changed.toArray(new UUID[0]);
+        changed.clear();
+
+        for (UUID playerId : pending) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null) continue;
+
+            ArmorSnapshot current = build(player);
+            ArmorSnapshot previous = snapshots.put(playerId, current);
+            if (!current.equals(previous)) {
+                notifyListeners(previous, current);
+            }
+        }
+    }
+
+    /**
+     * Builds a snapshot from the plugin's caches; rescans the inventory only if the tracker is dirty
+     */
+    private ArmorSnapshot build(Player player) {
+        PlayerArmorState state = plugin.getArmorStateCache().get(player);
+        int[] slotTiers = new int[ArmorPart.values().length];
+        for (ArmorPart part : ArmorPart.values()) {
+            slotTiers[part.ordinal()] = state.getTier(part);
+        }
+        int essence = plugin.getInventoryTracker().getEssence(player);
+        return new ArmorSnapshot(player.getUniqueId(), state.getTotalMultiplier(), state.getPieceCount(), slotTiers, essence);
+    }
+
+    private void notifyListeners(ArmorSnapshot previous, ArmorSnapshot current) {
+        for (Registration registration : listeners) {
+            try {
+                registration.listener.onSnapshotChange(previous, current);
+            } catch (RuntimeException e) {
+                // One broken listener must not stop the others or the flush
+                plugin.getLogger().log(Level.WARNING, "Armor snapshot listener of "
+                    + registration.owner.getName() + " failed", e);
+            }
+        }
+    }
+
+    private record Registration(Plugin owner, ArmorSnapshotListener listener) {
+    }
+}
@@ -0,0 +1,79 @@
+package me.macmoment.customarmor.api;
+
+import me.macmoment.customarmor.data.ArmorPart;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Immutable view of one player's CustomArmor state at a point in time
+ */
+public final class ArmorSnapshot {
+    private final UUID playerId;
+    private final double multiplier;
+    private final int pieceCount;
+    private final int[] slotTiers;
+    private final int essence;
+
+    /**
+     * @param slotTiers the tier worn per {@link ArmorPart} ordinal, 0 for none; copied
+     */
+    public ArmorSnapshot(UUID playerId, double multiplier, int pieceCount, int[] slotTiers, int essence) {
+        this.playerId = playerId;
+        this.multiplier = multiplier;
+        this.pieceCount = pieceCount;
+        this.slotTiers = slotTiers.clone();
+        this.essence = essence;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * @return the summed multiplier of the worn CustomArmor pieces
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * @return the number of CustomArmor pieces worn
+     */
+    public int getPieceCount() {
+        return pieceCount;
+    }
+
+    /**
+     * @return the tier of the CustomArmor piece worn in the part's slot, or 0 if there is none
+     */
+    public int getTier(ArmorPart part) {
+        return slotTiers[part.ordinal()];
+    }
+
+    /**
+     * @return the essence in the player's inventory
+     */
+    public int getEssence() {
+        return essence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArmorSnapshot other)) return false;
+        return playerId.equals(other.playerId) && Double.compare(multiplier, other.multiplier) == 0
+            && pieceCount == other.pieceCount && essence == other.essence && Arrays.equals(slotTiers, other.slotTiers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * playerId.hashCode() + Arrays.hashCode(slotTiers)) + essence;
+    }
+
+    @Override
+    public String toString() {
+        return "ArmorSnapshot{player=" + playerId + ", multiplier=" + multiplier + ", pieces=" + pieceCount
+            + ", tiers=" + Arrays.toString(slotTiers) + ", essence=" + essence + "}";
+    }
+}
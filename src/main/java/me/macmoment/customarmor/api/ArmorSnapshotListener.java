@@ -0,0 +1,15 @@
+package me.macmoment.customarmor.api;
+
+/**
+ * Notified when a player's {@link ArmorSnapshot} changes
+ * Called on the main thread, at most once per player per tick
+ */
+@FunctionalInterface
+public interface ArmorSnapshotListener {
+
+    /**
+     * @param previous the snapshot before the change, or null for a player's first snapshot
+     * @param current  the new snapshot
+     */
+    void onSnapshotChange(ArmorSnapshot previous, ArmorSnapshot current);
+}
@@ -0,0 +1,81 @@
+package me.macmoment.customarmor.api;
+
+import me.macmoment.customarmor.data.ArmorTier;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read access to CustomArmor for other plugins
+ * <p>
+ * Registered with Bukkit's ServicesManager while CustomArmor is enabled:
+ * </p>
+ * <pre>
+ * CustomArmorAPI api = Bukkit.getServicesManager().load(CustomArmorAPI.class);
+ * if (api != null &amp;&amp; api.getApiVersion() &gt;= 1) {
+ *     ArmorSnapshot snapshot = api.getSnapshot(player.getUniqueId());
+ * }
+ * </pre>
+ * <p>
+ * Every query is safe from any thread and never blocks: it reads immutable per-player snapshots, refreshed
+ * on the main thread at most once per tick after a player's armor or essence changes.
+ * </p>
+ */
+public interface CustomArmorAPI {
+
+    /**
+     * The version of this interface; raised when methods are added
+     */
+    int API_VERSION = 1;
+
+    /**
+     * @return the API version the running CustomArmor implements, compare against {@link #API_VERSION}
+     */
+    int getApiVersion();
+
+    // ==================== Players ====================
+
+    /**
+     * @return the player's latest snapshot, or null if the player is not online or has none yet
+     */
+    ArmorSnapshot getSnapshot(UUID playerId);
+
+    /**
+     * Looks up many players at once
+     *
+     * @return snapshots by player id; players without one are left out
+     */
+    Map<UUID, ArmorSnapshot> getSnapshots(Collection<UUID> playerIds);
+
+    /**
+     * @return the snapshot of every online player that has one
+     */
+    Collection<ArmorSnapshot> getAllSnapshots();
+
+    /**
+     * Registers a listener for snapshot changes; it is removed automatically when the owning plugin disables
+     */
+    void addListener(Plugin owner, ArmorSnapshotListener listener);
+
+    void removeListener(ArmorSnapshotListener listener);
+
+    // ==================== Tiers ====================
+
+    /**
+     * @return the tier, or null if it is not configured
+     */
+    ArmorTier getTier(int tier);
+
+    /**
+     * @return every configured tier in ascending order
+     */
+    List<ArmorTier> getTiers();
+
+    /**
+     * @return the highest configured tier
+     */
+    int getMaxTier();
+}
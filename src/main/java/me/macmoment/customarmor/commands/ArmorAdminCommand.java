@@ -1,6 +1,15 @@
 package me.macmoment.customarmor.commands;
 
 import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.InvalidConfigException;
+import me.macmoment.customarmor.config.ReloadInProgressException;
+import me.macmoment.customarmor.data.ArmorRegistry;
+import me.macmoment.customarmor.data.InventoryTracker;
+import me.macmoment.customarmor.gui.ClickGovernor;
+import me.macmoment.customarmor.metrics.Counter;
+import me.macmoment.customarmor.metrics.LatencyHistogram;
+import me.macmoment.customarmor.metrics.Metrics;
+import me.macmoment.customarmor.metrics.Timer;
 import me.macmoment.customarmor.utils.ArmorUtils;
 import me.macmoment.customarmor.utils.EssenceUtils;
 import me.macmoment.customarmor.utils.TextUtils;
@@ -14,6 +23,8 @@ import org.bukkit.entity.Player;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -25,7 +36,7 @@ public class ArmorAdminCommand implements CommandExecutor, TabCompleter {
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         if (args.length == 0) {
-            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cUsage: /armoradmin <givearmor|giveessence|reload>"));
+            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cUsage: /armoradmin <givearmor|giveessence|essencecheck|stats|reload>"));
             return true;
         }
 
@@ -40,6 +51,14 @@ public class ArmorAdminCommand implements CommandExecutor, TabCompleter {
                 handleGiveEssence(sender, args);
                 break;
 
+            case "essencecheck":
+                handleEssenceCheck(sender, args);
+                break;
+
+            case "stats":
+                handleStats(sender, args);
+                break;
+
             case "reload":
                 handleReload(sender);
                 break;
@@ -87,11 +106,16 @@ public class ArmorAdminCommand implements CommandExecutor, TabCompleter {
 
         try {
             int tier = Integer.parseInt(args[3]);
-            int maxTier = CustomArmor.getInstance().getConfigManager().getMaxTier();
+            ArmorRegistry registry = CustomArmor.getInstance().getArmorRegistry();
+            int maxTier = registry.getMaxTier();
             if (tier < 1 || tier > maxTier) {
                 sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cTier must be between 1 and " + maxTier + "!"));
                 return;
             }
+            if (registry.getTier(tier) == null) {
+                sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cTier " + tier + " is not configured!"));
+                return;
+            }
 
             ArmorUtils.giveArmor(target, tier, type);
             sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &aGave armor to " + target.getName() + "!"));
@@ -133,12 +157,120 @@ public class ArmorAdminCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    /**
+     * Debug: compares a player's cached essence balance against a full inventory scan and resyncs it
+     */
+    private void handleEssenceCheck(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + 
+                CustomArmor.getInstance().getConfigManager().getAdminMessage("choose-player")));
+            return;
+        }
+
+        Player target = Bukkit.getPlayer(args[1]);
+        if (target == null) {
+            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cPlayer not found!"));
+            return;
+        }
+
+        InventoryTracker tracker = CustomArmor.getInstance().getInventoryTracker();
+        int cached = tracker.getCachedEssence(target);
+        int scanned = tracker.rescan(target).getEssence();
+
+        if (cached < 0) {
+            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &7" + target.getName() + 
+                " had no clean cached balance; scanned &f" + scanned + "&7."));
+        } else if (cached == scanned) {
+            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &aCached balance of " + target.getName() + 
+                " matches the inventory (&f" + scanned + "&a)."));
+        } else {
+            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cCached balance of " + target.getName() + 
+                " was &f" + cached + "&c but the inventory holds &f" + scanned + "&c - resynced."));
+        }
+    }
+
+    /**
+     * Shows the performance metrics, or clears them with "stats reset"
+     */
+    private void handleStats(CommandSender sender, String[] args) {
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            Metrics.reset();
+            sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &aPerformance metrics reset."));
+            return;
+        }
+
+        double window = Metrics.getWindowSeconds();
+        String state = Metrics.isEnabled() ? "&aenabled" : "&cdisabled &7(metrics.enabled)";
+        sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &fPerformance over the last &e"
+            + formatDuration(window) + " &7- " + state));
+
+        for (Timer timer : Metrics.getTimers()) {
+            LatencyHistogram histogram = timer.getHistogram();
+            long count = histogram.getCount();
+            if (count == 0) {
+                sender.sendMessage(TextUtils.colorize("&8 - &7" + timer.getName() + ": &8no samples"));
+                continue;
+            }
+            sender.sendMessage(TextUtils.colorize(String.format(Locale.ROOT,
+                "&8 - &7%s: &f%d &8(%.1f/s) &7p50 &f%s &7p99 &f%s &7max &f%s",
+                timer.getName(), count, count / window,
+                formatNanos(histogram.getPercentile(0.50)), formatNanos(histogram.getPercentile(0.99)),
+                formatNanos(histogram.getMax()))));
+        }
+
+        StringBuilder counters = new StringBuilder("&8 - &7counters:");
+        for (Counter counter : Metrics.getCounters()) {
+            if (counter.get() > 0) {
+                counters.append(" &7").append(counter.getName()).append(" &f").append(counter.get());
+            }
+        }
+        sender.sendMessage(TextUtils.colorize(counters.toString()));
+
+        ClickGovernor governor = CustomArmor.getInstance().getClickGovernor();
+        sender.sendMessage(TextUtils.colorize(String.format(Locale.ROOT,
+            "&8 - &7caches: &7text &f%.1f%% &7components &f%.1f%% &8| &7clicks: &7duplicate &f%d &7rate-limited &f%d &7coalesced &f%d",
+            TextUtils.getLegacyCache().getHitRate() * 100, TextUtils.getComponentCache().getHitRate() * 100,
+            governor.getDuplicateClicks(), governor.getRejectedPurchases(), governor.getCoalescedRenders())));
+
+        StringBuilder phases = new StringBuilder("&8 - &7enable:");
+        for (Map.Entry<String, Long> phase : Metrics.getEnablePhases().entrySet()) {
+            phases.append(" &7").append(phase.getKey()).append(" &f").append(formatNanos(phase.getValue()));
+        }
+        sender.sendMessage(TextUtils.colorize(phases.toString()));
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000_000L) {
+            return String.format(Locale.ROOT, "%.1fµs", nanos / 1_000.0);
+        }
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+
+    private static String formatDuration(double seconds) {
+        long total = (long) seconds;
+        if (total < 60) return total + "s";
+        if (total < 3600) return (total / 60) + "m " + (total % 60) + "s";
+        return (total / 3600) + "h " + (total % 3600 / 60) + "m";
+    }
+
     private void handleReload(CommandSender sender) {
         sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &aReloading plugin..."));
-        // Use the plugin's reload method which properly clears and re-registers
-        CustomArmor.getInstance().reloadPlugin();
-        sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + 
-            CustomArmor.getInstance().getConfigManager().getAdminMessage("reload")));
+        // Parsed and rebuilt off the main thread; the callback runs on the main thread once it is live or rejected
+        CustomArmor.getInstance().reloadPlugin().whenComplete((snapshot, error) -> {
+            if (error == null) {
+                sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " +
+                    CustomArmor.getInstance().getConfigManager().getAdminMessage("reload")));
+            } else if (error instanceof InvalidConfigException e) {
+                sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cconfig.yml is invalid, keeping the previous configuration:"));
+                for (String problem : e.getProblems()) {
+                    sender.sendMessage(TextUtils.colorize("&8 - &7" + problem));
+                }
+            } else if (error instanceof ReloadInProgressException) {
+                sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cA reload is already running."));
+            } else {
+                sender.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " &cReload failed, keeping the previous configuration: &7" + error));
+            }
+        });
     }
 
     @Override
@@ -146,13 +278,17 @@ public class ArmorAdminCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            completions.addAll(Arrays.asList("givearmor", "giveessence", "reload"));
+            completions.addAll(Arrays.asList("givearmor", "giveessence", "essencecheck", "stats", "reload"));
         } else if (args.length == 2) {
-            if (args[0].equalsIgnoreCase("givearmor") || args[0].equalsIgnoreCase("giveessence")) {
+            if (args[0].equalsIgnoreCase("givearmor") || args[0].equalsIgnoreCase("giveessence")
+                    || args[0].equalsIgnoreCase("essencecheck")) {
                 return Bukkit.getOnlinePlayers().stream()
                     .map(Player::getName)
                     .collect(Collectors.toList());
             }
+            if (args[0].equalsIgnoreCase("stats")) {
+                completions.add("reset");
+            }
         } else if (args.length == 3) {
             if (args[0].equalsIgnoreCase("givearmor")) {
                 completions.addAll(Arrays.asList("fullset", "head", "chestplate", "leggings", "boots"));
@@ -2,6 +2,7 @@ package me.macmoment.customarmor.commands;
 
 import me.macmoment.customarmor.CustomArmor;
 import me.macmoment.customarmor.utils.EssenceUtils;
+import me.macmoment.customarmor.utils.PlaceholderContext;
 import me.macmoment.customarmor.utils.TextUtils;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -26,14 +27,14 @@ public class EssenceCommand implements CommandExecutor {
 
         String message;
         if (count > 0) {
-            message = CustomArmor.getInstance().getConfigManager().getEssenceMessage("count")
-                .replace("{accent}", TextUtils.getColor())
-                .replace("{amount}", String.valueOf(count));
+            message = CustomArmor.getInstance().getConfigManager().getEssenceMessageTemplate("count")
+                .render(new PlaceholderContext(TextUtils.getColor()).amount(count));
         } else {
             message = CustomArmor.getInstance().getConfigManager().getEssenceMessage("none");
         }
 
-        player.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + message));
+        // The rendered message carries per-player numbers, so only the prefix goes through the cache
+        player.sendMessage(TextUtils.getPrefix() + " " + TextUtils.colorizeDynamic(message));
 
         return true;
     }
@@ -0,0 +1,22 @@
+package me.macmoment.customarmor.config;
+
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeModifier;
+
+/**
+ * One native attribute modifier baked into a tier's armor, from {@code armor-tiers.<tier>.attributes}
+ * The modifier amount is the tier multiplier times {@code scale}
+ *
+ * @param id the attribute as written in config.yml, e.g. {@code minecraft:attack_damage}
+ */
+public record AttributeBonus(
+    String id,
+    Attribute attribute,
+    double scale,
+    AttributeModifier.Operation operation
+) {
+
+    public double amount(double multiplier) {
+        return multiplier * scale;
+    }
+}
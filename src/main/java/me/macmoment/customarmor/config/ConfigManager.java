@@ -1,92 +1,162 @@
 package me.macmoment.customarmor.config;
 
 import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.utils.PlaceholderTemplate;
 import org.bukkit.Color;
 import org.bukkit.Material;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
-
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * Manages plugin configuration
  * Provides easy access to all config values
+ * <p>
+ * config.yml is parsed and validated once per (re)load into an immutable {@link ConfigSnapshot}.
+ * The getters below read plain fields of the current snapshot; a reload swaps the whole snapshot,
+ * and a config that fails validation leaves the previous one in place.
+ * </p>
  */
 public class ConfigManager {
     private final CustomArmor plugin;
-    private FileConfiguration config;
+    private volatile ConfigSnapshot snapshot;
 
-    public ConfigManager(CustomArmor plugin) {
+    public ConfigManager(CustomArmor plugin) throws InvalidConfigException {
         this.plugin = plugin;
         loadConfig();
     }
 
-    public void loadConfig() {
+    private ConfigManager(ConfigSnapshot snapshot) {
+        this.plugin = null;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Creates a read-only manager over a fixed snapshot, e.g. to build a registry before the snapshot is published
+     * It cannot load or reload
+     */
+    public static ConfigManager detached(ConfigSnapshot snapshot) {
+        return new ConfigManager(snapshot);
+    }
+
+    public void loadConfig() throws InvalidConfigException {
         plugin.saveDefaultConfig();
-        plugin.reloadConfig();
-        this.config = plugin.getConfig();
+        reloadConfig();
     }
 
-    public void reloadConfig() {
+    /**
+     * Re-reads config.yml and publishes a new snapshot
+     *
+     * @throws InvalidConfigException if the file is invalid, the current snapshot is kept
+     */
+    public void reloadConfig() throws InvalidConfigException {
         plugin.reloadConfig();
-        this.config = plugin.getConfig();
+        int version = snapshot == null ? 1 : snapshot.version() + 1;
+        this.snapshot = ConfigParser.parse(plugin.getConfig(), version);
+    }
+
+    /**
+     * Reads and validates config.yml into a new snapshot without publishing it
+     * Touches no live state, so it can run off the main thread
+     *
+     * @throws InvalidConfigException if the file cannot be read or is invalid
+     */
+    public ConfigSnapshot loadSnapshot() throws InvalidConfigException {
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(new File(plugin.getDataFolder(), "config.yml"));
+        } catch (IOException | InvalidConfigurationException e) {
+            throw new InvalidConfigException(List.of("config.yml could not be read: " + e.getMessage()));
+        }
+
+        // Same fallback as JavaPlugin#reloadConfig: keys missing from the file come from the bundled config.yml
+        try (InputStream defaults = plugin.getResource("config.yml")) {
+            if (defaults != null) {
+                config.setDefaults(YamlConfiguration.loadConfiguration(
+                    new InputStreamReader(defaults, StandardCharsets.UTF_8)));
+            }
+        } catch (IOException ignored) {
+            // Closing a jar resource stream; nothing to recover
+        }
+
+        return ConfigParser.parse(config, snapshot.version() + 1);
+    }
+
+    /**
+     * Makes a snapshot from {@link #loadSnapshot()} the current one
+     * Main thread only, together with the registry built from it
+     */
+    public void publish(ConfigSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Gets the current configuration snapshot
+     * Hot paths should read this once and use its fields rather than calling several getters
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
     // Prefix and colors
     public String getPrefix() {
-        return config.getString("prefix", "&8[<##FF9100>&lA<##FFB047>&lR<##FFCE8D>&lM<##FFB047>&lO<##FF9100>&lR&8] &8»&7");
+        return snapshot.prefix();
     }
 
     public String getAccentColor() {
-        return config.getString("accent-color", "<##FFCE8D>");
+        return snapshot.accentColor();
     }
 
     // Upgrade settings
     public int getDiscountPerTier() {
-        return config.getInt("upgrade-settings.discount-per-tier", 15);
+        return snapshot.discountPerTier();
     }
 
     public int getMinimumPrice() {
-        return config.getInt("upgrade-settings.minimum-price", 10);
+        return snapshot.minimumPrice();
     }
 
     // Armor tier data
     public String getArmorName(int tier) {
-        return config.getString("armor-tiers." + tier + ".name", "Unknown");
+        ConfigSnapshot.TierSettings settings = snapshot.tiers().get(tier);
+        return settings != null ? settings.name() : "Unknown";
     }
 
     public Color getArmorRGBColor(int tier) {
-        String rgb = config.getString("armor-tiers." + tier + ".rgb-color", "150,150,150");
-        String[] parts = rgb.split(",");
-        try {
-            int r = Integer.parseInt(parts[0].trim());
-            int g = Integer.parseInt(parts[1].trim());
-            int b = Integer.parseInt(parts[2].trim());
-            return Color.fromRGB(r, g, b);
-        } catch (Exception e) {
-            return Color.fromRGB(150, 150, 150);
-        }
+        ConfigSnapshot.TierSettings settings = snapshot.tiers().get(tier);
+        return settings != null ? settings.rgbColor() : Color.fromRGB(150, 150, 150);
     }
 
     public String getArmorHexColor(int tier) {
-        return config.getString("armor-tiers." + tier + ".hex-color", "<##969696>");
+        ConfigSnapshot.TierSettings settings = snapshot.tiers().get(tier);
+        return settings != null ? settings.hexColor() : "<##969696>";
     }
 
     public double getArmorMultiplier(int tier) {
-        return config.getDouble("armor-tiers." + tier + ".multiplier", 0.05);
+        ConfigSnapshot.TierSettings settings = snapshot.tiers().get(tier);
+        return settings != null ? settings.multiplier() : 0.05;
     }
 
     public int getArmorPrice(int tier) {
-        return config.getInt("armor-tiers." + tier + ".price", 25);
+        ConfigSnapshot.TierSettings settings = snapshot.tiers().get(tier);
+        return settings != null ? settings.price() : 25;
     }
 
     public String getArmorHeadTexture(int tier) {
-        return config.getString("armor-tiers." + tier + ".head-texture", "");
+        ConfigSnapshot.TierSettings settings = snapshot.tiers().get(tier);
+        return settings != null ? settings.headTexture() : "";
     }
 
     // Messages
     public String getMessage(String path) {
-        return config.getString("messages." + path, "&cMessage not found: " + path);
+        String message = snapshot.messages().get(path);
+        return message != null ? message : "&cMessage not found: " + path;
     }
 
     public String getAdminMessage(String key) {
@@ -101,155 +171,145 @@ public class ConfigManager {
         return getMessage("shop." + key);
     }
 
+    /**
+     * Gets a message compiled as a placeholder template
+     */
+    public PlaceholderTemplate getMessageTemplate(String path) {
+        PlaceholderTemplate template = snapshot.messageTemplates().get(path);
+        return template != null ? template : PlaceholderTemplate.compile(getMessage(path));
+    }
+
+    public PlaceholderTemplate getEssenceMessageTemplate(String key) {
+        return getMessageTemplate("essence." + key);
+    }
+
+    public PlaceholderTemplate getShopMessageTemplate(String key) {
+        return getMessageTemplate("shop." + key);
+    }
+
     // ==================== GUI Settings ====================
 
     public int getGUISize() {
-        return config.getInt("gui.size", 54);
+        return snapshot.gui().size();
     }
 
-    public String getGUITitle() {
-        return config.getString("gui.title", "&8Armor Browser &7(Tier {tier}/{max_tier})");
+    public PlaceholderTemplate getGUITitleTemplate() {
+        return snapshot.gui().title();
     }
 
     // GUI Slot positions
     public int getSlotPrevious() {
-        return config.getInt("gui.slots.previous-button", 10);
+        return snapshot.gui().slots().previous();
     }
 
     public int getSlotNext() {
-        return config.getInt("gui.slots.next-button", 16);
+        return snapshot.gui().slots().next();
     }
 
     public int getSlotTierInfo() {
-        return config.getInt("gui.slots.tier-info", 13);
+        return snapshot.gui().slots().tierInfo();
     }
 
     public int getSlotHelmet() {
-        return config.getInt("gui.slots.helmet", 29);
+        return snapshot.gui().slots().helmet();
     }
 
     public int getSlotChestplate() {
-        return config.getInt("gui.slots.chestplate", 30);
+        return snapshot.gui().slots().chestplate();
     }
 
     public int getSlotLeggings() {
-        return config.getInt("gui.slots.leggings", 32);
+        return snapshot.gui().slots().leggings();
     }
 
     public int getSlotBoots() {
-        return config.getInt("gui.slots.boots", 33);
+        return snapshot.gui().slots().boots();
     }
 
     public int getSlotPlayerStats() {
-        return config.getInt("gui.slots.player-stats", 49);
+        return snapshot.gui().slots().playerStats();
     }
 
     public List<Integer> getAccentSlots() {
-        return config.getIntegerList("gui.accent-slots");
+        return snapshot.gui().accentSlots();
     }
 
     // GUI Materials
     public Material getBorderPaneMaterial() {
-        return parseMaterial(config.getString("gui.materials.border-pane", "GRAY_STAINED_GLASS_PANE"), 
-                            Material.GRAY_STAINED_GLASS_PANE);
+        return snapshot.gui().materials().borderPane();
     }
 
     public Material getAccentPaneMaterial() {
-        return parseMaterial(config.getString("gui.materials.accent-pane", "ORANGE_STAINED_GLASS_PANE"), 
-                            Material.ORANGE_STAINED_GLASS_PANE);
+        return snapshot.gui().materials().accentPane();
     }
 
     public Material getTierInfoMaterial() {
-        return parseMaterial(config.getString("gui.materials.tier-info-item", "BOOK"), 
-                            Material.BOOK);
+        return snapshot.gui().materials().tierInfoItem();
     }
 
     public Material getNavigationArrowMaterial() {
-        return parseMaterial(config.getString("gui.materials.navigation-arrow", "ARROW"), 
-                            Material.ARROW);
-    }
-
-    /**
-     * Parses a material name from config, returning a default if invalid.
-     */
-    private Material parseMaterial(String materialName, Material defaultMaterial) {
-        if (materialName == null || materialName.isEmpty()) {
-            return defaultMaterial;
-        }
-        try {
-            return Material.valueOf(materialName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return defaultMaterial;
-        }
+        return snapshot.gui().materials().navigationArrow();
     }
 
     // Tier info settings
-    public String getTierInfoName() {
-        return config.getString("gui.tier-info.name", "{hex_color}⚔ {tier_name} &7(Tier {tier})");
+    public PlaceholderTemplate getTierInfoNameTemplate() {
+        return snapshot.gui().tierInfoName();
     }
 
-    public List<String> getTierInfoLore() {
-        return config.getStringList("gui.tier-info.lore");
+    public List<PlaceholderTemplate> getTierInfoLoreTemplates() {
+        return snapshot.gui().tierInfoLore();
     }
 
     // Navigation settings
     public String getNavigationPreviousName() {
-        return config.getString("gui.navigation.previous.name", "&c◀ Previous Tier");
+        return snapshot.gui().navigationPreviousName();
     }
 
-    public List<String> getNavigationPreviousLore() {
-        return config.getStringList("gui.navigation.previous.lore");
+    public List<PlaceholderTemplate> getNavigationPreviousLoreTemplates() {
+        return snapshot.gui().navigationPreviousLore();
     }
 
     public String getNavigationNextName() {
-        return config.getString("gui.navigation.next.name", "&a▶ Next Tier");
+        return snapshot.gui().navigationNextName();
     }
 
-    public List<String> getNavigationNextLore() {
-        return config.getStringList("gui.navigation.next.lore");
+    public List<PlaceholderTemplate> getNavigationNextLoreTemplates() {
+        return snapshot.gui().navigationNextLore();
     }
 
     // Player stats settings
-    public String getPlayerStatsName() {
-        return config.getString("gui.player-stats.name", "{accent}⚡ {player}'s Stats");
+    public PlaceholderTemplate getPlayerStatsNameTemplate() {
+        return snapshot.gui().playerStatsName();
     }
 
-    public List<String> getPlayerStatsLore() {
-        return config.getStringList("gui.player-stats.lore");
+    public List<PlaceholderTemplate> getPlayerStatsLoreTemplates() {
+        return snapshot.gui().playerStatsLore();
     }
 
     // Armor piece settings
-    public String getArmorPieceNameFormat() {
-        return config.getString("gui.armor-piece.name-format", "{hex_color}{tier_name} {piece_name}");
+    public PlaceholderTemplate getArmorPieceNameTemplate() {
+        return snapshot.gui().armorPieceName();
     }
 
-    public List<String> getArmorPieceLore() {
-        return config.getStringList("gui.armor-piece.lore");
+    public List<PlaceholderTemplate> getArmorPieceLoreTemplates() {
+        return snapshot.gui().armorPieceLore();
     }
 
     // Essence settings
     public String getEssenceName() {
-        return config.getString("essence.name", "<gradient:#8B00FF:#FF1493>Armor Essence</gradient>");
+        return snapshot.essence().name();
     }
 
-    public List<String> getEssenceLore() {
-        return config.getStringList("essence.lore");
+    public List<PlaceholderTemplate> getEssenceLoreTemplates() {
+        return snapshot.essence().lore();
     }
 
     // Check if tier exists in config
     public boolean hasTier(int tier) {
-        return config.contains("armor-tiers." + tier);
+        return snapshot.tiers().containsKey(tier);
     }
 
     public int getMaxTier() {
-        ConfigurationSection section = config.getConfigurationSection("armor-tiers");
-        if (section != null) {
-            return section.getKeys(false).stream()
-                .filter(key -> key.matches("\\d+"))
-                .mapToInt(Integer::parseInt)
-                .max()
-                .orElse(10);
-        }
-        return 10;
+        return snapshot.maxTier();
     }
 }
@@ -0,0 +1,399 @@
+package me.macmoment.customarmor.config;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.utils.PlaceholderTemplate;
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Parses and validates config.yml into a {@link ConfigSnapshot}
+ * Missing keys fall back to the built-in defaults; keys that are present but unusable are reported as problems
+ */
+public final class ConfigParser {
+    /** Highest allowed tier number; the registry indexes tiers by number */
+    private static final int MAX_TIER = 1000;
+
+    private final ConfigurationSection config;
+    private final List<String> problems = new ArrayList<>();
+
+    private ConfigParser(ConfigurationSection config) {
+        this.config = config;
+    }
+
+    /**
+     * Builds a snapshot from a loaded configuration
+     *
+     * @param config  the loaded config.yml
+     * @param version the version to stamp on the snapshot
+     * @throws InvalidConfigException listing every problem found
+     */
+    public static ConfigSnapshot parse(ConfigurationSection config, int version) throws InvalidConfigException {
+        return new ConfigParser(config).parse(version);
+    }
+
+    private ConfigSnapshot parse(int version) throws InvalidConfigException {
+        String prefix = readString("prefix", "&8[<##FF9100>&lA<##FFB047>&lR<##FFCE8D>&lM<##FFB047>&lO<##FF9100>&lR&8] &8»&7");
+        String accentColor = readString("accent-color", "<##FFCE8D>");
+        int discountPerTier = readInt("upgrade-settings.discount-per-tier", 15, 0);
+        int minimumPrice = readInt("upgrade-settings.minimum-price", 10, 0);
+
+        SortedMap<Integer, ConfigSnapshot.TierSettings> tiers = parseTiers();
+        ConfigSnapshot.Gui gui = parseGui();
+        ConfigSnapshot.Essence essence = new ConfigSnapshot.Essence(
+            readString("essence.name", "<gradient:#8B00FF:#FF1493>Armor Essence</gradient>"),
+            PlaceholderTemplate.compileAll(config.getStringList("essence.lore")));
+
+        ConfigSnapshot.Metrics metrics = new ConfigSnapshot.Metrics(
+            readBoolean("metrics.enabled", true),
+            readBoolean("metrics.http.enabled", false),
+            readString("metrics.http.host", "127.0.0.1"),
+            readInt("metrics.http.port", 9464, 1));
+        if (metrics.httpPort() > 65535) {
+            problems.add("metrics.http.port: must be at most 65535, got " + metrics.httpPort());
+        }
+
+        ConfigSnapshot.Effects effects = parseEffects();
+
+        Map<String, String> messages = new HashMap<>();
+        Map<String, PlaceholderTemplate> messageTemplates = new HashMap<>();
+        ConfigurationSection messageSection = config.getConfigurationSection("messages");
+        if (messageSection != null) {
+            for (String path : messageSection.getKeys(true)) {
+                if (messageSection.isString(path)) {
+                    String message = messageSection.getString(path);
+                    messages.put(path, message);
+                    messageTemplates.put(path, PlaceholderTemplate.compile(message));
+                }
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new InvalidConfigException(problems);
+        }
+
+        return new ConfigSnapshot(version, prefix, accentColor, discountPerTier, minimumPrice,
+            Collections.unmodifiableSortedMap(tiers), gui, essence, Map.copyOf(messages), Map.copyOf(messageTemplates),
+            metrics, effects);
+    }
+
+    // ==================== Sections ====================
+
+    private SortedMap<Integer, ConfigSnapshot.TierSettings> parseTiers() {
+        SortedMap<Integer, ConfigSnapshot.TierSettings> tiers = new TreeMap<>();
+        ConfigurationSection section = config.getConfigurationSection("armor-tiers");
+        if (section == null) {
+            problems.add("armor-tiers: section is missing");
+            return tiers;
+        }
+
+        for (String key : section.getKeys(false)) {
+            if (!key.matches("\\d+") || Integer.parseInt(key) < 1) {
+                problems.add("armor-tiers." + key + ": tier keys must be positive numbers");
+                continue;
+            }
+            int tier = Integer.parseInt(key);
+            String path = "armor-tiers." + key;
+            if (tier > MAX_TIER) {
+                problems.add(path + ": tier numbers must be at most " + MAX_TIER);
+                continue;
+            }
+
+            tiers.put(tier, new ConfigSnapshot.TierSettings(
+                tier,
+                readString(path + ".name", "Unknown"),
+                readColor(path + ".rgb-color", Color.fromRGB(150, 150, 150)),
+                readString(path + ".hex-color", "<##969696>"),
+                readDouble(path + ".multiplier", 0.05, 0.0),
+                readInt(path + ".price", 25, 0),
+                readString(path + ".head-texture", ""),
+                parseAttributes(path + ".attributes")));
+        }
+
+        if (tiers.isEmpty()) {
+            problems.add("armor-tiers: at least one tier must be defined");
+        }
+        return tiers;
+    }
+
+    private ConfigSnapshot.Gui parseGui() {
+        int size = readInt("gui.size", 54, 9);
+        if (size % 9 != 0 || size > 54) {
+            problems.add("gui.size: must be a multiple of 9 between 9 and 54, got " + size);
+        }
+
+        ConfigSnapshot.Slots slots = new ConfigSnapshot.Slots(
+            readSlot("gui.slots.previous-button", 10, size),
+            readSlot("gui.slots.next-button", 16, size),
+            readSlot("gui.slots.tier-info", 13, size),
+            readSlot("gui.slots.helmet", 29, size),
+            readSlot("gui.slots.chestplate", 30, size),
+            readSlot("gui.slots.leggings", 32, size),
+            readSlot("gui.slots.boots", 33, size),
+            readSlot("gui.slots.player-stats", 49, size));
+
+        SlotAction[] slotActions = compileSlotActions(slots, size);
+
+        List<Integer> accentSlots = config.getIntegerList("gui.accent-slots");
+        for (int slot : accentSlots) {
+            if (slot < 0 || slot >= size) {
+                problems.add("gui.accent-slots: slot " + slot + " is outside the GUI (size " + size + ")");
+            }
+        }
+
+        ConfigSnapshot.Materials materials = new ConfigSnapshot.Materials(
+            readMaterial("gui.materials.border-pane", Material.GRAY_STAINED_GLASS_PANE),
+            readMaterial("gui.materials.accent-pane", Material.ORANGE_STAINED_GLASS_PANE),
+            readMaterial("gui.materials.tier-info-item", Material.BOOK),
+            readMaterial("gui.materials.navigation-arrow", Material.ARROW));
+
+        return new ConfigSnapshot.Gui(
+            size,
+            PlaceholderTemplate.compile(readString("gui.title", "&8Armor Browser &7(Tier {tier}/{max_tier})")),
+            slots,
+            slotActions,
+            List.copyOf(accentSlots),
+            materials,
+            PlaceholderTemplate.compile(readString("gui.tier-info.name", "{hex_color}⚔ {tier_name} &7(Tier {tier})")),
+            PlaceholderTemplate.compileAll(config.getStringList("gui.tier-info.lore")),
+            readString("gui.navigation.previous.name", "&c◀ Previous Tier"),
+            PlaceholderTemplate.compileAll(config.getStringList("gui.navigation.previous.lore")),
+            readString("gui.navigation.next.name", "&a▶ Next Tier"),
+            PlaceholderTemplate.compileAll(config.getStringList("gui.navigation.next.lore")),
+            PlaceholderTemplate.compile(readString("gui.player-stats.name", "{accent}⚡ {player}'s Stats")),
+            PlaceholderTemplate.compileAll(config.getStringList("gui.player-stats.lore")),
+            PlaceholderTemplate.compile(readString("gui.armor-piece.name-format", "{hex_color}{tier_name} {piece_name}")),
+            PlaceholderTemplate.compileAll(config.getStringList("gui.armor-piece.lore")),
+            new ConfigSnapshot.ClickLimit(
+                readDouble("gui.click-limit.purchases-per-second", 4.0, 0.0),
+                readInt("gui.click-limit.burst", 4, 1)));
+    }
+
+    /**
+     * Compiles {@code gui.slots} into one click action per slot
+     * Reports slots that are shared by two entries
+     */
+    private SlotAction[] compileSlotActions(ConfigSnapshot.Slots slots, int size) {
+        SlotAction[] actions = new SlotAction[Math.max(0, Math.min(size, 54))];
+        Arrays.fill(actions, SlotAction.NONE);
+
+        Map<Integer, String> claimed = new HashMap<>();
+        claimSlot(claimed, actions, "previous-button", slots.previous(), SlotAction.PREVIOUS_PAGE);
+        claimSlot(claimed, actions, "next-button", slots.next(), SlotAction.NEXT_PAGE);
+        claimSlot(claimed, actions, "tier-info", slots.tierInfo(), SlotAction.NONE);
+        claimSlot(claimed, actions, "helmet", slots.helmet(), SlotAction.BUY_HELMET);
+        claimSlot(claimed, actions, "chestplate", slots.chestplate(), SlotAction.BUY_CHESTPLATE);
+        claimSlot(claimed, actions, "leggings", slots.leggings(), SlotAction.BUY_LEGGINGS);
+        claimSlot(claimed, actions, "boots", slots.boots(), SlotAction.BUY_BOOTS);
+        claimSlot(claimed, actions, "player-stats", slots.playerStats(), SlotAction.NONE);
+        return actions;
+    }
+
+    private void claimSlot(Map<Integer, String> claimed, SlotAction[] actions, String name, int slot, SlotAction action) {
+        String previous = claimed.putIfAbsent(slot, name);
+        if (previous != null) {
+            problems.add("gui.slots." + name + ": slot " + slot + " is already used by gui.slots." + previous);
+            return;
+        }
+        // Out-of-range slots were already reported by readSlot
+        if (slot >= 0 && slot < actions.length) {
+            actions[slot] = action;
+        }
+    }
+
+    /**
+     * Reads a tier's {@code attributes}: lists per part id, plus {@code all} for every part
+     */
+    private Map<ArmorPart, List<AttributeBonus>> parseAttributes(String path) {
+        if (!config.isSet(path)) return Map.of();
+        ConfigurationSection section = config.getConfigurationSection(path);
+        if (section == null) {
+            problems.add(path + ": expected a section");
+            return Map.of();
+        }
+        for (String key : section.getKeys(false)) {
+            if (!key.equals("all") && ArmorPart.fromId(key) == null) {
+                problems.add(path + "." + key + ": expected all, head, chestplate, leggings or boots");
+            }
+        }
+
+        List<AttributeBonus> all = readAttributeList(path + ".all");
+        Map<ArmorPart, List<AttributeBonus>> attributes = new EnumMap<>(ArmorPart.class);
+        for (ArmorPart part : ArmorPart.values()) {
+            List<AttributeBonus> bonuses = new ArrayList<>(all);
+            bonuses.addAll(readAttributeList(path + "." + part.getId()));
+            if (!bonuses.isEmpty()) {
+                attributes.put(part, List.copyOf(bonuses));
+            }
+        }
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    private List<AttributeBonus> readAttributeList(String path) {
+        if (!config.isSet(path)) return List.of();
+        if (!config.isList(path)) {
+            problems.add(path + ": expected a list of attribute entries");
+            return List.of();
+        }
+
+        List<AttributeBonus> bonuses = new ArrayList<>();
+        List<Map<?, ?>> entries = config.getMapList(path);
+        for (int i = 0; i < entries.size(); i++) {
+            Map<?, ?> entry = entries.get(i);
+            String where = path + "[" + i + "]";
+
+            Object id = entry.get("attribute");
+            NamespacedKey key = id instanceof String text ? NamespacedKey.fromString(text.toLowerCase(Locale.ROOT)) : null;
+            Attribute attribute = key != null ? Registry.ATTRIBUTE.get(key) : null;
+            if (attribute == null) {
+                problems.add(where + ".attribute: unknown attribute '" + id + "'");
+                continue;
+            }
+
+            Object scale = entry.containsKey("scale") ? entry.get("scale") : 1.0;
+            if (!(scale instanceof Number)) {
+                problems.add(where + ".scale: expected a number");
+                continue;
+            }
+
+            Object operationId = entry.containsKey("operation") ? entry.get("operation") : "add_number";
+            AttributeModifier.Operation operation;
+            try {
+                operation = AttributeModifier.Operation.valueOf(String.valueOf(operationId).toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                problems.add(where + ".operation: expected add_number, add_scalar or multiply_scalar_1, got " + operationId);
+                continue;
+            }
+
+            bonuses.add(new AttributeBonus(key.asString(), attribute, ((Number) scale).doubleValue(), operation));
+        }
+        return bonuses;
+    }
+
+    /**
+     * Compiles {@code effects}; a missing section leaves every hook off
+     */
+    private ConfigSnapshot.Effects parseEffects() {
+        String stackingId = readString("effects.stacking", StackingRule.ADDITIVE.getId());
+        StackingRule stacking = StackingRule.fromId(stackingId);
+        if (stacking == null) {
+            problems.add("effects.stacking: unknown rule '" + stackingId + "', expected additive, multiplicative or highest");
+            stacking = StackingRule.ADDITIVE;
+        }
+
+        double[] scales = new double[EffectHook.values().length];
+        for (EffectHook hook : EffectHook.values()) {
+            String path = "effects.hooks." + hook.getId();
+            boolean enabled = readBoolean(path + ".enabled", false);
+            double scale = readDouble(path + ".scale", 1.0, 0.0);
+            scales[hook.ordinal()] = enabled ? scale : 0.0;
+        }
+
+        double maxFactor = readDouble("effects.max-factor", 0.0, 0.0);
+        if (maxFactor > 0 && maxFactor < 1) {
+            problems.add("effects.max-factor: must be 0 (no cap) or at least 1, got " + maxFactor);
+        }
+        return new ConfigSnapshot.Effects(stacking, scales, maxFactor);
+    }
+
+    // ==================== Value Readers ====================
+
+    private String readString(String path, String def) {
+        if (!config.isSet(path)) return def;
+        if (!config.isString(path)) {
+            problems.add(path + ": expected text");
+            return def;
+        }
+        return config.getString(path);
+    }
+
+    private boolean readBoolean(String path, boolean def) {
+        if (!config.isSet(path)) return def;
+        if (!config.isBoolean(path)) {
+            problems.add(path + ": expected true or false");
+            return def;
+        }
+        return config.getBoolean(path);
+    }
+
+    private int readInt(String path, int def, int min) {
+        if (!config.isSet(path)) return def;
+        if (!config.isInt(path)) {
+            problems.add(path + ": expected a whole number");
+            return def;
+        }
+        int value = config.getInt(path);
+        if (value < min) {
+            problems.add(path + ": must be at least " + min + ", got " + value);
+        }
+        return value;
+    }
+
+    private double readDouble(String path, double def, double min) {
+        if (!config.isSet(path)) return def;
+        if (!(config.get(path) instanceof Number)) {
+            problems.add(path + ": expected a number");
+            return def;
+        }
+        double value = config.getDouble(path);
+        if (value < min) {
+            problems.add(path + ": must be at least " + min + ", got " + value);
+        }
+        return value;
+    }
+
+    private int readSlot(String path, int def, int guiSize) {
+        int slot = readInt(path, def, 0);
+        if (slot >= guiSize) {
+            problems.add(path + ": slot " + slot + " is outside the GUI (size " + guiSize + ")");
+        }
+        return slot;
+    }
+
+    private Material readMaterial(String path, Material def) {
+        String name = readString(path, null);
+        if (name == null || name.isEmpty()) return def;
+        Material material = Material.matchMaterial(name);
+        if (material == null || !material.isItem()) {
+            problems.add(path + ": unknown item material '" + name + "'");
+            return def;
+        }
+        return material;
+    }
+
+    private Color readColor(String path, Color def) {
+        String rgb = readString(path, null);
+        if (rgb == null) return def;
+
+        String[] parts = rgb.split(",");
+        if (parts.length != 3) {
+            problems.add(path + ": expected 'r,g,b', got '" + rgb + "'");
+            return def;
+        }
+        try {
+            int r = Integer.parseInt(parts[0].trim());
+            int g = Integer.parseInt(parts[1].trim());
+            int b = Integer.parseInt(parts[2].trim());
+            return Color.fromRGB(r, g, b);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException for non-numbers, IllegalArgumentException for values outside 0-255
+            problems.add(path + ": expected 'r,g,b' with values 0-255, got '" + rgb + "'");
+            return def;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package me.macmoment.customarmor.config;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.utils.PlaceholderTemplate;
+import org.bukkit.Color;
+import org.bukkit.Material;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Immutable, validated view of config.yml
+ * Produced by {@link ConfigParser} and swapped as a whole by {@link ConfigManager} on reload,
+ * so readers always see one consistent configuration
+ *
+ * @param version          increases with every successful (re)load
+ * @param tiers            tier settings by tier number, in ascending order
+ * @param messages         raw messages by path relative to {@code messages}, e.g. {@code shop.purchased}
+ * @param messageTemplates the same messages compiled as placeholder templates
+ */
+public record ConfigSnapshot(
+    int version,
+    String prefix,
+    String accentColor,
+    int discountPerTier,
+    int minimumPrice,
+    SortedMap<Integer, TierSettings> tiers,
+    Gui gui,
+    Essence essence,
+    Map<String, String> messages,
+    Map<String, PlaceholderTemplate> messageTemplates,
+    Metrics metrics,
+    Effects effects
+) {
+
+    /**
+     * @return the highest configured tier number
+     */
+    public int maxTier() {
+        return tiers.lastKey();
+    }
+
+    /**
+     * One entry of {@code armor-tiers}
+     *
+     * @param attributes native attribute modifiers per part, with the {@code all} entries already merged in
+     */
+    public record TierSettings(
+        int tier,
+        String name,
+        Color rgbColor,
+        String hexColor,
+        double multiplier,
+        int price,
+        String headTexture,
+        Map<ArmorPart, List<AttributeBonus>> attributes
+    ) {
+
+        public List<AttributeBonus> attributes(ArmorPart part) {
+            return attributes.getOrDefault(part, List.of());
+        }
+
+        /**
+         * Canonical description of the modifiers this tier's piece of the given part should carry, empty if it has none
+         * Stored on issued pieces and compared exactly, so ones built from an older config are always found and rewritten
+         */
+        public String attributeStamp(ArmorPart part) {
+            List<AttributeBonus> bonuses = attributes(part);
+            if (bonuses.isEmpty()) return "";
+
+            // The amount comes from the multiplier stored on each piece, so the tier's current one is left out
+            StringBuilder key = new StringBuilder();
+            for (AttributeBonus bonus : bonuses) {
+                if (!key.isEmpty()) key.append(';');
+                key.append(bonus.id()).append('*').append(bonus.scale()).append(':').append(bonus.operation().name());
+            }
+            return key.toString();
+        }
+    }
+
+    /**
+     * {@code gui.slots}
+     */
+    public record Slots(
+        int previous,
+        int next,
+        int tierInfo,
+        int helmet,
+        int chestplate,
+        int leggings,
+        int boots,
+        int playerStats
+    ) {
+    }
+
+    /**
+     * {@code gui.click-limit}
+     *
+     * @param purchasesPerSecond purchases a player may make per second on average, 0 for no limit
+     * @param burst              purchases a player may make back to back before the rate applies
+     */
+    public record ClickLimit(
+        double purchasesPerSecond,
+        int burst
+    ) {
+    }
+
+    /**
+     * {@code gui.materials}
+     */
+    public record Materials(
+        Material borderPane,
+        Material accentPane,
+        Material tierInfoItem,
+        Material navigationArrow
+    ) {
+    }
+
+    /**
+     * The {@code gui} section with all text compiled as placeholder templates
+     *
+     * @param slotActions the click action of every GUI slot, indexed by raw slot - read through {@link #slotAction}
+     */
+    public record Gui(
+        int size,
+        PlaceholderTemplate title,
+        Slots slots,
+        SlotAction[] slotActions,
+        List<Integer> accentSlots,
+        Materials materials,
+        PlaceholderTemplate tierInfoName,
+        List<PlaceholderTemplate> tierInfoLore,
+        String navigationPreviousName,
+        List<PlaceholderTemplate> navigationPreviousLore,
+        String navigationNextName,
+        List<PlaceholderTemplate> navigationNextLore,
+        PlaceholderTemplate playerStatsName,
+        List<PlaceholderTemplate> playerStatsLore,
+        PlaceholderTemplate armorPieceName,
+        List<PlaceholderTemplate> armorPieceLore,
+        ClickLimit clickLimit
+    ) {
+
+        public Gui {
+            slotActions = slotActions.clone();
+        }
+
+        /**
+         * @return a copy of the slot actions; the snapshot's own array is never handed out
+         */
+        @Override
+        public SlotAction[] slotActions() {
+            return slotActions.clone();
+        }
+
+        /**
+         * @return the action of a raw slot, or {@link SlotAction#NONE} for slots outside the GUI
+         */
+        public SlotAction slotAction(int rawSlot) {
+            if (rawSlot < 0 || rawSlot >= slotActions.length) return SlotAction.NONE;
+            return slotActions[rawSlot];
+        }
+    }
+
+    /**
+     * The {@code effects} section
+     *
+     * @param scales    share of the bonus each hook applies, by {@link EffectHook} ordinal; 0 when the hook is off
+     * @param maxFactor cap on any hook's factor, 0 for none
+     */
+    public record Effects(
+        StackingRule stacking,
+        double[] scales,
+        double maxFactor
+    ) {
+
+        public Effects {
+            scales = scales.clone();
+        }
+
+        /**
+         * @return a copy of the scales; the snapshot's own array is never handed out
+         */
+        @Override
+        public double[] scales() {
+            return scales.clone();
+        }
+
+        /**
+         * Turns the pieces a player wears into one factor per hook, 1.0 where the hook is off
+         * Called when the player's equipment changes, so effect listeners only read the result
+         *
+         * @param pieceMultipliers the multiplier of each worn piece, 0 for empty slots
+         */
+        public double[] factors(double[] pieceMultipliers) {
+            double bonus = stacking.combine(pieceMultipliers);
+            double[] factors = new double[scales.length];
+            for (int i = 0; i < scales.length; i++) {
+                double factor = 1.0 + bonus * scales[i];
+                factors[i] = maxFactor > 0 ? Math.min(factor, maxFactor) : factor;
+            }
+            return factors;
+        }
+    }
+
+    /**
+     * The {@code metrics} section
+     *
+     * @param httpEnabled whether to serve the metrics over HTTP in Prometheus text format
+     * @param httpHost    address the endpoint binds to, normally a loopback address
+     */
+    public record Metrics(
+        boolean enabled,
+        boolean httpEnabled,
+        String httpHost,
+        int httpPort
+    ) {
+    }
+
+    /**
+     * The {@code essence} item section
+     */
+    public record Essence(
+        String name,
+        List<PlaceholderTemplate> lore
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package me.macmoment.customarmor.config;
+
+/**
+ * A gameplay event the armor multiplier can scale, configured under {@code effects.hooks}
+ */
+public enum EffectHook {
+    /** Damage a player deals to any entity, in melee or with a projectile */
+    DAMAGE_DEALT("damage-dealt"),
+    /** Damage a player takes from any cause; divided by the factor */
+    DAMAGE_TAKEN("damage-taken"),
+    /** Experience orbs a player picks up */
+    EXPERIENCE("experience"),
+    /** Item drops of mobs a player kills */
+    DROPS("drops");
+
+    private final String id;
+
+    EffectHook(String id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the key used in config.yml
+     */
+    public String getId() {
+        return id;
+    }
+}
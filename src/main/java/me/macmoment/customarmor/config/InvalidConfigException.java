@@ -0,0 +1,20 @@
+package me.macmoment.customarmor.config;
+
+import java.util.List;
+
+/**
+ * Thrown when config.yml contains values that cannot be used
+ * Carries every problem found, not just the first one
+ */
+public class InvalidConfigException extends Exception {
+    private final List<String> problems;
+
+    public InvalidConfigException(List<String> problems) {
+        super("Invalid config.yml: " + String.join("; ", problems));
+        this.problems = List.copyOf(problems);
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+}
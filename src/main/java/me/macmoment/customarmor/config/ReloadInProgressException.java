@@ -0,0 +1,11 @@
+package me.macmoment.customarmor.config;
+
+/**
+ * Completes a reload request that was refused because another reload is still running
+ */
+public class ReloadInProgressException extends Exception {
+
+    public ReloadInProgressException() {
+        super("A reload is already running");
+    }
+}
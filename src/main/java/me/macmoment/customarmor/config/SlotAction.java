@@ -0,0 +1,30 @@
+package me.macmoment.customarmor.config;
+
+import me.macmoment.customarmor.data.ArmorPart;
+
+/**
+ * What a click on a slot of the armor browser does
+ * {@link ConfigParser} compiles {@code gui.slots} into one action per slot, so a click is a single array lookup
+ */
+public enum SlotAction {
+    NONE(null),
+    PREVIOUS_PAGE(null),
+    NEXT_PAGE(null),
+    BUY_HELMET(ArmorPart.HEAD),
+    BUY_CHESTPLATE(ArmorPart.CHESTPLATE),
+    BUY_LEGGINGS(ArmorPart.LEGGINGS),
+    BUY_BOOTS(ArmorPart.BOOTS);
+
+    private final ArmorPart part;
+
+    SlotAction(ArmorPart part) {
+        this.part = part;
+    }
+
+    /**
+     * @return the part bought by this action, or null if it is not a purchase
+     */
+    public ArmorPart getPart() {
+        return part;
+    }
+}
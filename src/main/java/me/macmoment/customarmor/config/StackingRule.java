@@ -0,0 +1,52 @@
+package me.macmoment.customarmor.config;
+
+/**
+ * How the multipliers of the pieces a player wears combine into one bonus, configured by {@code effects.stacking}
+ * The bonus is the amount above 1x, e.g. 0.2 for a 1.2x factor
+ */
+public enum StackingRule {
+    /** The piece multipliers are summed, matching the "full set bonus" shown in the browser */
+    ADDITIVE("additive"),
+    /** Each piece multiplies the factor by 1 + its multiplier */
+    MULTIPLICATIVE("multiplicative"),
+    /** Only the strongest piece counts */
+    HIGHEST("highest");
+
+    private final String id;
+
+    StackingRule(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @param pieceMultipliers the multiplier of each worn piece, 0 for empty slots
+     * @return the combined bonus
+     */
+    public double combine(double[] pieceMultipliers) {
+        double bonus = this == MULTIPLICATIVE ? 1.0 : 0.0;
+        for (double multiplier : pieceMultipliers) {
+            switch (this) {
+                case ADDITIVE -> bonus += multiplier;
+                case MULTIPLICATIVE -> bonus *= 1.0 + multiplier;
+                case HIGHEST -> bonus = Math.max(bonus, multiplier);
+            }
+        }
+        return this == MULTIPLICATIVE ? bonus - 1.0 : bonus;
+    }
+
+    /**
+     * @return the rule with the given config id, or null if there is none
+     */
+    public static StackingRule fromId(String id) {
+        for (StackingRule rule : values()) {
+            if (rule.id.equalsIgnoreCase(id)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+}
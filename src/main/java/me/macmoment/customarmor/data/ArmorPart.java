@@ -0,0 +1,81 @@
+package me.macmoment.customarmor.data;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.EquipmentSlot;
+
+/**
+ * The four pieces that make up an armor set
+ * Holds the command/config id, the display name and the item material of each piece
+ */
+public enum ArmorPart {
+    HEAD("head", "Helmet", Material.PLAYER_HEAD, EquipmentSlot.HEAD),
+    CHESTPLATE("chestplate", "Chestplate", Material.LEATHER_CHESTPLATE, EquipmentSlot.CHEST),
+    LEGGINGS("leggings", "Leggings", Material.LEATHER_LEGGINGS, EquipmentSlot.LEGS),
+    BOOTS("boots", "Boots", Material.LEATHER_BOOTS, EquipmentSlot.FEET);
+
+    private final String id;
+    private final String displayName;
+    private final Material material;
+    private final EquipmentSlot equipmentSlot;
+
+    ArmorPart(String id, String displayName, Material material, EquipmentSlot equipmentSlot) {
+        this.id = id;
+        this.displayName = displayName;
+        this.material = material;
+        this.equipmentSlot = equipmentSlot;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Material getMaterial() {
+        return material;
+    }
+
+    /**
+     * @return the slot the piece is worn in
+     */
+    public EquipmentSlot getEquipmentSlot() {
+        return equipmentSlot;
+    }
+
+    /**
+     * Looks up a part by its id ("head", "chestplate", ...), ignoring case
+     *
+     * @return the matching part, or null if the id is unknown
+     */
+    public static ArmorPart fromId(String id) {
+        if (id == null) return null;
+        for (ArmorPart part : values()) {
+            if (part.id.equalsIgnoreCase(id)) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the part whose items use the given material
+     *
+     * @return the matching part, or null if no part uses the material
+     */
+    public static ArmorPart fromMaterial(Material material) {
+        switch (material) {
+            case PLAYER_HEAD:
+                return HEAD;
+            case LEATHER_CHESTPLATE:
+                return CHESTPLATE;
+            case LEATHER_LEGGINGS:
+                return LEGGINGS;
+            case LEATHER_BOOTS:
+                return BOOTS;
+            default:
+                return null;
+        }
+    }
+}
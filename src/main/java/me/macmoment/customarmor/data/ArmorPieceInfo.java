@@ -0,0 +1,51 @@
+package me.macmoment.customarmor.data;
+
+/**
+ * What an item is, as far as CustomArmor is concerned
+ * Produced by {@code ArmorUtils.decode}, which reads the item's data once; items that are not
+ * custom armor all share {@link #NOT_ARMOR}
+ */
+public final class ArmorPieceInfo {
+    public static final ArmorPieceInfo NOT_ARMOR = new ArmorPieceInfo(false, 0, null, 0.0);
+
+    private final boolean armor;
+    private final int tier;
+    private final ArmorPart part;
+    private final double multiplier;
+
+    private ArmorPieceInfo(boolean armor, int tier, ArmorPart part, double multiplier) {
+        this.armor = armor;
+        this.tier = tier;
+        this.part = part;
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Describes a custom armor piece
+     */
+    public static ArmorPieceInfo of(int tier, ArmorPart part, double multiplier) {
+        return new ArmorPieceInfo(true, tier, part, multiplier);
+    }
+
+    public boolean isArmor() {
+        return armor;
+    }
+
+    /**
+     * @return the tier of the piece, or 0 if not custom armor
+     */
+    public int getTier() {
+        return tier;
+    }
+
+    /**
+     * @return the part of the piece, or null if not custom armor
+     */
+    public ArmorPart getPart() {
+        return part;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+}
@@ -1,78 +1,230 @@
 package me.macmoment.customarmor.data;
 
 import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.utils.ArmorUtils;
+import me.macmoment.customarmor.utils.HeadTextureCache;
+import me.macmoment.customarmor.utils.PlaceholderContext;
+import me.macmoment.customarmor.utils.PlaceholderTemplate;
 import org.bukkit.Color;
+import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Stores all registered armor tiers
  * All tier data is loaded from config.yml for full customization
+ * <p>
+ * A registry is filled once by {@link #registerAllArmors()} and only read afterwards. A reload loads the
+ * tier tables of a new registry off the main thread ({@link #loadTiers()}), then builds its item prototypes
+ * ({@link #buildPrototypes()}) on the main thread and swaps it in, so readers never see a half-built one.
+ * </p>
+ * <p>
+ * Tiers live in dense arrays indexed by tier number, published together as one immutable {@link Index}
+ * through a volatile field, so every lookup is a bounds check plus an array load and is safe from any
+ * thread. Tier numbers may have gaps (e.g. no tier 4); navigation steps over them. The browser pages
+ * built from these tiers belong to the GUI (see {@code TierPageCache}).
+ * </p>
  */
 public class ArmorRegistry {
-    private final Map<Integer, ArmorTier> tiers = new HashMap<>();
     private final ConfigManager configManager;
+    private volatile Index index = Index.EMPTY;
 
     public ArmorRegistry(ConfigManager configManager) {
         this.configManager = configManager;
     }
 
+    /**
+     * Loads the tiers and builds their item prototypes. Main thread only
+     */
     public void registerAllArmors() {
-        // Load all tiers from config (1-10 by default)
-        int maxTier = configManager.getMaxTier();
-        
-        for (int tier = 1; tier <= maxTier; tier++) {
-            if (configManager.hasTier(tier)) {
-                String name = configManager.getArmorName(tier);
-                Color rgbColor = configManager.getArmorRGBColor(tier);
-                String hexColor = configManager.getArmorHexColor(tier);
-                double multiplier = configManager.getArmorMultiplier(tier);
-                int price = configManager.getArmorPrice(tier);
-                String headTexture = configManager.getArmorHeadTexture(tier);
-                
-                registerArmor(tier, name, rgbColor, hexColor, multiplier, price, headTexture);
+        loadTiers();
+        buildPrototypes();
+    }
+
+    /**
+     * Builds the tier tables from the config snapshot: tiers, their lore text and navigation
+     * Creates no items and touches no shared caches, so it may run off the main thread
+     */
+    public void loadTiers() {
+        // Load all tiers from the validated config snapshot (1-10 by default), in ascending order
+        List<ArmorTier> ordered = new ArrayList<>();
+        for (ConfigSnapshot.TierSettings settings : configManager.getSnapshot().tiers().values()) {
+            ordered.add(createTier(settings.tier(), settings.name(), settings.rgbColor(), settings.hexColor(),
+                settings.multiplier(), settings.price(), settings.headTexture()));
+        }
+
+        int maxTier = ordered.isEmpty() ? 0 : ordered.get(ordered.size() - 1).getTier();
+        ArmorTier[] tiers = new ArmorTier[maxTier + 1];
+        for (ArmorTier armorTier : ordered) {
+            tiers[armorTier.getTier()] = armorTier;
+        }
+
+        // Nearest registered tier below and above every tier number, gaps included
+        int[] previousTiers = new int[maxTier + 2];
+        int[] nextTiers = new int[maxTier + 2];
+        for (int tier = 1, below = 0; tier <= maxTier + 1; tier++) {
+            previousTiers[tier] = below;
+            if (tier <= maxTier && tiers[tier] != null) below = tier;
+        }
+        for (int tier = maxTier, above = 0; tier >= 0; tier--) {
+            nextTiers[tier] = above;
+            if (tiers[tier] != null) above = tier;
+        }
+
+        index = new Index(tiers, List.copyOf(ordered), previousTiers, nextTiers, new ItemStack[maxTier + 1][], maxTier);
+    }
+
+    /**
+     * Builds the head and armor piece prototypes of the loaded tiers
+     * Writes item meta and the shared head cache, so main thread only
+     */
+    public void buildPrototypes() {
+        Index current = index;
+        // Decode each distinct head texture once before any helmet is built
+        HeadTextureCache.preload(texturesOf(current.ordered));
+        ItemStack[][] armorPieces = buildArmorPieces(current.ordered, current.maxTier);
+        index = new Index(current.tiers, current.ordered, current.previousTiers, current.nextTiers, armorPieces,
+            current.maxTier);
+    }
+
+    /**
+     * Builds the prototype of every issued armor piece, so giving armor is a clone
+     */
+    private ItemStack[][] buildArmorPieces(List<ArmorTier> ordered, int maxTier) {
+        ItemStack[][] armorPieces = new ItemStack[maxTier + 1][];
+        for (ArmorTier armorTier : ordered) {
+            ItemStack[] pieces = new ItemStack[ArmorPart.values().length];
+            for (ArmorPart part : ArmorPart.values()) {
+                pieces[part.ordinal()] = ArmorUtils.createArmorPiece(armorTier, part, configManager);
             }
+            armorPieces[armorTier.getTier()] = pieces;
         }
+        return armorPieces;
     }
 
-    private void registerArmor(int tier, String name, Color rgbColor, String hexColor, 
-                               double multiplier, int price, String headTexture) {
-        // Build lore from armor piece lore config
-        List<String> armorPieceLore = configManager.getArmorPieceLore();
+    private ArmorTier createTier(int tier, String name, Color rgbColor, String hexColor,
+                                 double multiplier, int price, String headTexture) {
+        // Lore is filled after construction so the tier itself can feed the placeholders
         List<String> lore = new ArrayList<>();
-        
-        for (String line : armorPieceLore) {
-            // Replace placeholders but don't add price/click text for stored lore
-            // (that's handled separately in the GUI for display items vs actual armor)
-            String processedLine = line
-                .replace("{accent}", configManager.getAccentColor())
-                .replace("{hex_color}", hexColor)
-                .replace("{tier_name}", name)
-                .replace("{tier}", String.valueOf(tier))
-                .replace("{multiplier}", String.valueOf(multiplier))
-                .replace("{price}", String.valueOf(price));
-            lore.add(processedLine);
+        ArmorTier armorTier = new ArmorTier(tier, name, rgbColor, hexColor, multiplier, price, headTexture, lore);
+
+        // Build lore from armor piece lore config
+        PlaceholderContext context = new PlaceholderContext(configManager.getAccentColor()).tier(armorTier);
+        for (PlaceholderTemplate template : configManager.getArmorPieceLoreTemplates()) {
+            lore.add(template.render(context));
         }
 
-        ArmorTier armorTier = new ArmorTier(tier, name, rgbColor, hexColor, multiplier, price, headTexture, lore);
-        tiers.put(tier, armorTier);
+        return armorTier;
     }
 
+    /**
+     * @return the tier, or null if it is not registered
+     */
     public ArmorTier getTier(int tier) {
-        return tiers.get(tier);
+        ArmorTier[] tiers = index.tiers;
+        return tier >= 0 && tier < tiers.length ? tiers[tier] : null;
+    }
+
+    /**
+     * Gets every registered tier in ascending order
+     */
+    public List<ArmorTier> getTiers() {
+        return index.ordered;
     }
 
+    /**
+     * Gets the prototype of an issued armor piece
+     * Shared - clone before giving it out or modifying it
+     *
+     * @return the prototype, or null if the tier is not registered
+     */
+    public ItemStack getArmorPiece(int tier, ArmorPart part) {
+        ItemStack[][] armorPieces = index.armorPieces;
+        ItemStack[] pieces = tier >= 0 && tier < armorPieces.length ? armorPieces[tier] : null;
+        return pieces != null ? pieces[part.ordinal()] : null;
+    }
+
+    /**
+     * @return the highest registered tier, or 0 if none are registered
+     */
     public int getMaxTier() {
-        return tiers.keySet().stream()
-            .mapToInt(Integer::intValue)
-            .max()
-            .orElse(10);
-    }
-    
-    public void clearTiers() {
-        tiers.clear();
+        return index.maxTier;
+    }
+
+    public int getTierCount() {
+        return index.ordered.size();
+    }
+
+    /**
+     * @return the closest registered tier below the given one, or 0 if there is none
+     */
+    public int getPreviousTier(int tier) {
+        int[] previousTiers = index.previousTiers;
+        if (tier <= 0) return 0;
+        return previousTiers[Math.min(tier, previousTiers.length - 1)];
+    }
+
+    /**
+     * @return the closest registered tier above the given one, or 0 if there is none
+     */
+    public int getNextTier(int tier) {
+        int[] nextTiers = index.nextTiers;
+        if (tier >= nextTiers.length - 1) return 0;
+        return nextTiers[Math.max(tier, 0)];
+    }
+
+    /**
+     * Maps a requested page to a registered tier: the tier itself if registered, else the next one up,
+     * else the highest
+     *
+     * @return the tier to show, or 0 if no tiers are registered
+     */
+    public int resolveTier(int page) {
+        Index current = index;
+        if (page >= current.maxTier) return current.maxTier;
+        if (page > 0 && current.tiers[page] != null) return page;
+        return current.nextTiers[Math.max(page, 0)];
+    }
+
+    /**
+     * Gets the head texture of every registered tier
+     */
+    public List<String> getHeadTextures() {
+        return texturesOf(index.ordered);
+    }
+
+    private static List<String> texturesOf(List<ArmorTier> tiers) {
+        List<String> textures = new ArrayList<>(tiers.size());
+        for (ArmorTier armorTier : tiers) {
+            textures.add(armorTier.getHeadTexture());
+        }
+        return textures;
+    }
+
+    /**
+     * Everything the registry serves, indexed by tier number; never modified once built
+     */
+    private static final class Index {
+        static final Index EMPTY = new Index(new ArmorTier[1], List.of(), new int[2], new int[2],
+            new ItemStack[1][], 0);
+
+        final ArmorTier[] tiers;
+        final List<ArmorTier> ordered;
+        final int[] previousTiers;
+        final int[] nextTiers;
+        final ItemStack[][] armorPieces;
+        final int maxTier;
+
+        Index(ArmorTier[] tiers, List<ArmorTier> ordered, int[] previousTiers, int[] nextTiers,
+              ItemStack[][] armorPieces, int maxTier) {
+            this.tiers = tiers;
+            this.ordered = ordered;
+            this.previousTiers = previousTiers;
+            this.nextTiers = nextTiers;
+            this.armorPieces = armorPieces;
+            this.maxTier = maxTier;
+        }
     }
 }
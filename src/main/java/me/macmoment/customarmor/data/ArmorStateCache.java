@@ -0,0 +1,48 @@
+package me.macmoment.customarmor.data;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.utils.ArmorUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds a {@link PlayerArmorState} per online player
+ * Recomputed on join, respawn and equipment changes, so reads are a single map lookup from any thread
+ */
+public class ArmorStateCache {
+    private final Map<UUID, PlayerArmorState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the player's equipped armor state
+     * Computed on first access from the main thread; other threads see {@link PlayerArmorState#EMPTY} until then
+     */
+    public PlayerArmorState get(Player player) {
+        PlayerArmorState state = states.get(player.getUniqueId());
+        if (state != null) {
+            return state;
+        }
+        return Bukkit.isPrimaryThread() ? recompute(player) : PlayerArmorState.EMPTY;
+    }
+
+    /**
+     * Rebuilds the player's state from their equipped armor
+     */
+    public PlayerArmorState recompute(Player player) {
+        PlayerArmorState state = ArmorUtils.computeArmorState(player);
+        states.put(player.getUniqueId(), state);
+        CustomArmor.getInstance().getApiService().markChanged(player);
+        return state;
+    }
+
+    public void remove(UUID playerId) {
+        states.remove(playerId);
+    }
+
+    public void clear() {
+        states.clear();
+    }
+}
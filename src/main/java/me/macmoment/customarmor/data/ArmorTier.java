@@ -2,6 +2,7 @@ package me.macmoment.customarmor.data;
 
 import org.bukkit.Color;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -59,6 +60,6 @@ public class ArmorTier {
     }
 
     public List<String> getLore() {
-        return lore;
+        return Collections.unmodifiableList(lore);
     }
 }
@@ -0,0 +1,77 @@
+package me.macmoment.customarmor.data;
+
+import java.util.Arrays;
+
+/**
+ * Immutable summary of the CustomArmor items in one player's inventory
+ * Built by a full inventory scan and then kept current by {@link InventoryTracker}
+ */
+public final class InventoryIndex {
+    // Armor slots in PlayerInventory#getContents()
+    private static final int ARMOR_SLOT_START = 36;
+    private static final int ARMOR_SLOT_END = 40;
+
+    public static final InventoryIndex EMPTY = new InventoryIndex(0, new int[ArmorPart.values().length], emptySlots());
+
+    private final int essence;
+    // By ArmorPart ordinal; slots are PlayerInventory#getContents() indices, -1 if the part is not owned
+    private final int[] ownedTiers;
+    private final int[] ownedSlots;
+
+    public InventoryIndex(int essence, int[] ownedTiers, int[] ownedSlots) {
+        this.essence = essence;
+        this.ownedTiers = ownedTiers;
+        this.ownedSlots = ownedSlots;
+    }
+
+    /**
+     * @return a slot array with no part owned, for building an index
+     */
+    public static int[] emptySlots() {
+        int[] slots = new int[ArmorPart.values().length];
+        Arrays.fill(slots, -1);
+        return slots;
+    }
+
+    /**
+     * @return whether a PlayerInventory#getContents() index is one of the worn armor slots
+     */
+    public static boolean isArmorSlot(int slot) {
+        return slot >= ARMOR_SLOT_START && slot < ARMOR_SLOT_END;
+    }
+
+    /**
+     * @return the total amount of armor essence across all inventory slots
+     */
+    public int getEssence() {
+        return essence;
+    }
+
+    /**
+     * @return whether the player has a custom piece of this part, worn or carried
+     */
+    public boolean owns(ArmorPart part) {
+        return ownedSlots[part.ordinal()] >= 0;
+    }
+
+    /**
+     * @return the tier of the owned piece of this part, or 0 if none
+     */
+    public int getOwnedTier(ArmorPart part) {
+        return ownedTiers[part.ordinal()];
+    }
+
+    /**
+     * @return the inventory slot of the owned piece of this part (armor slots are 36-39), or -1 if none
+     */
+    public int getOwnedSlot(ArmorPart part) {
+        return ownedSlots[part.ordinal()];
+    }
+
+    /**
+     * @return a copy with the essence total changed by delta, never below zero
+     */
+    public InventoryIndex withEssenceDelta(int delta) {
+        return new InventoryIndex(Math.max(0, essence + delta), ownedTiers, ownedSlots);
+    }
+}
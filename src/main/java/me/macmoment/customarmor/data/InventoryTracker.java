@@ -0,0 +1,139 @@
+package me.macmoment.customarmor.data;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.metrics.Metrics;
+import me.macmoment.customarmor.utils.ArmorUtils;
+import me.macmoment.customarmor.utils.EssenceUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an {@link InventoryIndex} per online player so essence and owned-armor lookups don't scan the inventory.
+ * <p>
+ * The index is built on join. Changes the plugin makes itself (giving essence) are applied as exact deltas;
+ * anything else that may move essence or armor (clicks, drags, pickups, drops, death, giving armor) only marks the player dirty,
+ * and the next read on the main thread rescans once. Reads from other threads return the last known index.
+ * </p>
+ */
+public class InventoryTracker {
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the player's index, rescanning first if it is missing or dirty (main thread only)
+     */
+    public InventoryIndex get(Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry != null && !entry.dirty) {
+            return entry.index;
+        }
+        if (!Bukkit.isPrimaryThread()) {
+            return entry != null ? entry.index : InventoryIndex.EMPTY;
+        }
+        return rescan(player);
+    }
+
+    public int getEssence(Player player) {
+        return get(player).getEssence();
+    }
+
+    /**
+     * Rebuilds the player's index from a full inventory scan
+     */
+    public InventoryIndex rescan(Player player) {
+        long start = Metrics.start();
+        InventoryIndex index = scan(player.getInventory().getContents());
+        Metrics.ESSENCE_SCAN.stop(start);
+        entries.put(player.getUniqueId(), new Entry(index));
+        return index;
+    }
+
+    /**
+     * Builds an index from one pass over the inventory contents
+     * Worn pieces win over carried ones; among carried pieces the first one found counts
+     */
+    private static InventoryIndex scan(ItemStack[] contents) {
+        int essence = 0;
+        int[] ownedTiers = new int[ArmorPart.values().length];
+        int[] ownedSlots = InventoryIndex.emptySlots();
+        
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            if (item == null) continue;
+            
+            if (EssenceUtils.isEssence(item)) {
+                essence += item.getAmount();
+                continue;
+            }
+            
+            ArmorPieceInfo info = ArmorUtils.decode(item);
+            if (!info.isArmor()) continue;
+            
+            int part = info.getPart().ordinal();
+            if (ownedSlots[part] < 0 || (InventoryIndex.isArmorSlot(slot) && !InventoryIndex.isArmorSlot(ownedSlots[part]))) {
+                ownedSlots[part] = slot;
+                ownedTiers[part] = info.getTier();
+            }
+        }
+        
+        return new InventoryIndex(essence, ownedTiers, ownedSlots);
+    }
+
+    /**
+     * Publishes an index the caller built from the player's inventory as it is now
+     */
+    public void update(Player player, InventoryIndex index) {
+        entries.put(player.getUniqueId(), new Entry(index));
+        CustomArmor.getInstance().getApiService().markChanged(player);
+    }
+
+    /**
+     * Flags the player's index as possibly stale; the next read rescans
+     */
+    public void markDirty(Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry != null) {
+            entry.dirty = true;
+        }
+        CustomArmor.getInstance().getApiService().markChanged(player);
+    }
+
+    /**
+     * Applies an essence change the caller knows exactly
+     * Ignored for players without a clean index, since their next read rescans anyway
+     */
+    public void adjustEssence(Player player, int delta) {
+        entries.computeIfPresent(player.getUniqueId(), (id, entry) ->
+            entry.dirty ? entry : new Entry(entry.index.withEssenceDelta(delta)));
+        CustomArmor.getInstance().getApiService().markChanged(player);
+    }
+
+    public void remove(UUID playerId) {
+        entries.remove(playerId);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return the cached essence total, or -1 if the player has no clean index
+     */
+    public int getCachedEssence(Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        return entry != null && !entry.dirty ? entry.index.getEssence() : -1;
+    }
+
+    private static final class Entry {
+        private final InventoryIndex index;
+        private volatile boolean dirty;
+
+        private Entry(InventoryIndex index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package me.macmoment.customarmor.data;
+
+import me.macmoment.customarmor.config.EffectHook;
+
+import java.util.Arrays;
+
+/**
+ * Immutable summary of the CustomArmor pieces a player has equipped
+ * Recomputed by {@link ArmorStateCache} only when the player's equipment changes or the config is reloaded
+ */
+public final class PlayerArmorState {
+    public static final PlayerArmorState EMPTY = new PlayerArmorState(0.0, 0, new int[ArmorPart.values().length],
+        noEffects());
+
+    private final double totalMultiplier;
+    private final int pieceCount;
+    private final int[] slotTiers;
+    private final double[] effectFactors;
+
+    /**
+     * @param totalMultiplier the summed multiplier of all equipped pieces
+     * @param pieceCount      the number of equipped CustomArmor pieces
+     * @param slotTiers       the tier equipped per {@link ArmorPart} ordinal, 0 for none; copied
+     * @param effectFactors   the factor per {@link EffectHook} ordinal, already stacked and capped; copied
+     */
+    public PlayerArmorState(double totalMultiplier, int pieceCount, int[] slotTiers, double[] effectFactors) {
+        this.totalMultiplier = totalMultiplier;
+        this.pieceCount = pieceCount;
+        this.slotTiers = slotTiers.clone();
+        this.effectFactors = effectFactors.clone();
+    }
+
+    public double getTotalMultiplier() {
+        return totalMultiplier;
+    }
+
+    public int getPieceCount() {
+        return pieceCount;
+    }
+
+    /**
+     * @return the tier of the CustomArmor piece worn in the part's slot, or 0 if there is none
+     */
+    public int getTier(ArmorPart part) {
+        return slotTiers[part.ordinal()];
+    }
+
+    /**
+     * @return what the hook scales by for this player, 1.0 if it is off or they wear no CustomArmor
+     */
+    public double getEffectFactor(EffectHook hook) {
+        return effectFactors[hook.ordinal()];
+    }
+
+    private static double[] noEffects() {
+        double[] factors = new double[EffectHook.values().length];
+        Arrays.fill(factors, 1.0);
+        return factors;
+    }
+}
@@ -0,0 +1,34 @@
+package me.macmoment.customarmor.events;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorTier;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Fired when a player is about to buy a piece they do not own yet
+ * Cancelling it leaves the inventory untouched
+ */
+public class ArmorPurchaseEvent extends ArmorTransactionEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public ArmorPurchaseEvent(Player player, ArmorTier tier, ArmorPart part, int price) {
+        super(player, tier, part, price, 0);
+    }
+
+    /**
+     * Lets the shop skip building the event when nobody listens
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
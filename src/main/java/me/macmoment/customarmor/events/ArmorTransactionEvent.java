@@ -0,0 +1,72 @@
+package me.macmoment.customarmor.events;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorTier;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.player.PlayerEvent;
+
+/**
+ * Base of the armor shop pre-events, fired after the price is worked out and before anything is charged
+ * Listeners may cancel the transaction or change its price
+ */
+public abstract class ArmorTransactionEvent extends PlayerEvent implements Cancellable {
+    private final ArmorTier tier;
+    private final ArmorPart part;
+    private final int discount;
+    private int price;
+    private boolean cancelled;
+
+    protected ArmorTransactionEvent(Player player, ArmorTier tier, ArmorPart part, int price, int discount) {
+        super(player);
+        this.tier = tier;
+        this.part = part;
+        this.price = price;
+        this.discount = discount;
+    }
+
+    /**
+     * @return the tier being bought
+     */
+    public ArmorTier getTier() {
+        return tier;
+    }
+
+    public ArmorPart getPart() {
+        return part;
+    }
+
+    /**
+     * @return the essence that will be charged, after any discount
+     */
+    public int getPrice() {
+        return price;
+    }
+
+    /**
+     * Changes what the player is charged; affordability is checked against the new price
+     */
+    public void setPrice(int price) {
+        if (price < 0) {
+            throw new IllegalArgumentException("price must not be negative: " + price);
+        }
+        this.price = price;
+    }
+
+    /**
+     * @return the essence knocked off the tier price for the piece being traded in, 0 for new purchases
+     */
+    public int getDiscount() {
+        return discount;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancel) {
+        this.cancelled = cancel;
+    }
+}
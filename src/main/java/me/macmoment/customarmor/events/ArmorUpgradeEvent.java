@@ -0,0 +1,44 @@
+package me.macmoment.customarmor.events;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorTier;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Fired when a player is about to replace an owned piece with a higher tier
+ * Cancelling it leaves the inventory untouched
+ */
+public class ArmorUpgradeEvent extends ArmorTransactionEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final int previousTier;
+
+    public ArmorUpgradeEvent(Player player, ArmorTier tier, ArmorPart part, int price, int discount, int previousTier) {
+        super(player, tier, part, price, discount);
+        this.previousTier = previousTier;
+    }
+
+    /**
+     * @return the tier of the piece being replaced
+     */
+    public int getPreviousTier() {
+        return previousTier;
+    }
+
+    /**
+     * Lets the shop skip building the event when nobody listens
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
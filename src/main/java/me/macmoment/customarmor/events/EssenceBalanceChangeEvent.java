@@ -0,0 +1,76 @@
+package me.macmoment.customarmor.events;
+
+import me.macmoment.customarmor.CustomArmor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+
+/**
+ * Fired after CustomArmor itself adds or removes a player's essence
+ * Essence moved by the player (drops, pickups, chests) does not fire it
+ */
+public class EssenceBalanceChangeEvent extends PlayerEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public enum Cause {
+        /** Spent in the armor shop */
+        PURCHASE,
+        /** Given, e.g. by /armoradmin giveessence */
+        GIVE
+    }
+
+    private final Cause cause;
+    private final int delta;
+    private final int balance;
+
+    public EssenceBalanceChangeEvent(Player player, Cause cause, int delta, int balance) {
+        super(player);
+        this.cause = cause;
+        this.delta = delta;
+        this.balance = balance;
+    }
+
+    public Cause getCause() {
+        return cause;
+    }
+
+    /**
+     * @return the change in essence, negative when essence was taken
+     */
+    public int getDelta() {
+        return delta;
+    }
+
+    /**
+     * @return the player's essence after the change
+     */
+    public int getBalance() {
+        return balance;
+    }
+
+    /**
+     * Lets callers skip building the event when nobody listens
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    /**
+     * Fires the event for a change that already happened, if anyone listens
+     * The balance is only looked up when the event is actually built. Main thread only
+     */
+    public static void fire(Player player, Cause cause, int delta) {
+        if (delta == 0 || !hasListeners()) return;
+        int balance = CustomArmor.getInstance().getInventoryTracker().getEssence(player);
+        player.getServer().getPluginManager().callEvent(new EssenceBalanceChangeEvent(player, cause, delta, balance));
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
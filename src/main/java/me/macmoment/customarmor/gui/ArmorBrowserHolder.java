@@ -0,0 +1,65 @@
+package me.macmoment.customarmor.gui;
+
+import me.macmoment.customarmor.data.ArmorTier;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Marks an inventory as an armor browser page.
+ * <p>
+ * Listeners identify the GUI with a single {@code instanceof} check on the inventory holder
+ * instead of parsing the title, so a customized {@code gui.title} keeps working.
+ * The holder also records which page it shows and which config snapshot it was built from;
+ * both change when the page is re-rendered in place.
+ * </p>
+ */
+public final class ArmorBrowserHolder implements InventoryHolder {
+    private final Inventory inventory;
+    private ArmorTier tier;
+    private int configVersion;
+
+    /**
+     * Creates the holder together with its inventory.
+     *
+     * @param tier          the tier shown on this page
+     * @param configVersion the {@link me.macmoment.customarmor.config.ConfigSnapshot#version()} used to build it
+     * @param size          the inventory size
+     * @param title         the inventory title
+     */
+    public ArmorBrowserHolder(ArmorTier tier, int configVersion, int size, Component title) {
+        this.tier = tier;
+        this.configVersion = configVersion;
+        this.inventory = Bukkit.createInventory(this, size, title);
+    }
+
+    /**
+     * Records the page now shown after an in-place re-render.
+     */
+    void update(ArmorTier tier, int configVersion) {
+        this.tier = tier;
+        this.configVersion = configVersion;
+    }
+
+    /**
+     * @return the tier page number shown (1-indexed)
+     */
+    public int getPage() {
+        return tier.getTier();
+    }
+
+    public ArmorTier getTier() {
+        return tier;
+    }
+
+    public int getConfigVersion() {
+        return configVersion;
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+}
@@ -1,14 +1,20 @@
 package me.macmoment.customarmor.gui;
 
-import com.destroystokyo.paper.profile.PlayerProfile;
-import com.destroystokyo.paper.profile.ProfileProperty;
 import me.macmoment.customarmor.CustomArmor;
 import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorRegistry;
 import me.macmoment.customarmor.data.ArmorTier;
+import me.macmoment.customarmor.metrics.Metrics;
 import me.macmoment.customarmor.utils.ArmorUtils;
 import me.macmoment.customarmor.utils.EssenceUtils;
+import me.macmoment.customarmor.utils.HeadTextureCache;
+import me.macmoment.customarmor.utils.PlaceholderContext;
+import me.macmoment.customarmor.utils.PlaceholderTemplate;
 import me.macmoment.customarmor.utils.TextUtils;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -19,7 +25,10 @@ import org.bukkit.inventory.meta.LeatherArmorMeta;
 import org.bukkit.inventory.meta.SkullMeta;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -52,87 +61,215 @@ public class ArmorGUI {
     /** Number of armor pieces in a complete set. */
     public static final int ARMOR_PIECES_PER_SET = 4;
 
+    /**
+     * Serializes titles for {@code setTitle}, which only takes a string. Keeps hex colours in the
+     * {@code §x§R§R§G§G§B§B} form so a page change shows the same title as the first open
+     */
+    private static final LegacyComponentSerializer TITLE_SERIALIZER = LegacyComponentSerializer.builder()
+        .character(LegacyComponentSerializer.SECTION_CHAR)
+        .hexColors()
+        .useUnusualXRepeatedCharacterHexFormat()
+        .build();
+
     // ==================== Public Methods ====================
 
+    /** Open browser sessions by player. Only touched on the main thread. */
+    private static final Map<UUID, GuiSession> SESSIONS = new HashMap<>();
+
+    /** Pages of the published registry. Only touched on the main thread. */
+    private static TierPageCache pages = TierPageCache.EMPTY;
+
     /**
      * Opens the armor browser GUI for a player at the specified tier page.
+     * <p>
+     * If the player already has the browser open, the page is re-rendered in place and only the slots
+     * that changed are rewritten. Static content comes from the pre-rendered {@link TierRender};
+     * only the player stats item is built per viewer.
+     * </p>
      *
      * @param player the player to show the GUI to
      * @param page   the tier page number to display (1-indexed)
      */
     public static void openGUI(Player player, int page) {
-        int maxTier = CustomArmor.getInstance().getArmorRegistry().getMaxTier();
-        int normalizedPage = clamp(page, 1, maxTier);
+        long start = Metrics.start();
+        try {
+            openOrRender(player, page);
+        } finally {
+            Metrics.GUI_OPEN.stop(start);
+        }
+    }
+
+    private static void openOrRender(Player player, int page) {
+        ArmorRegistry registry = CustomArmor.getInstance().getArmorRegistry();
+        int normalizedPage = registry.resolveTier(page);
 
-        ArmorTier armorTier = CustomArmor.getInstance().getArmorRegistry().getTier(normalizedPage);
-        if (armorTier == null) {
+        TierRender render = pages.getRender(normalizedPage);
+        if (render == null) {
             return;
         }
 
-        ConfigManager config = CustomArmor.getInstance().getConfigManager();
-        Inventory inventory = createBaseInventory(normalizedPage, maxTier, config);
-        populateInventory(inventory, player, armorTier, normalizedPage, maxTier, config);
-        player.openInventory(inventory);
+        ConfigSnapshot snapshot = CustomArmor.getInstance().getConfigManager().getSnapshot();
+        GuiSession session = SESSIONS.get(player.getUniqueId());
+        if (session != null && session.isOpenFor(player) && session.getInventory().getSize() == snapshot.gui().size()) {
+            TierRender previous = session.getRender();
+            showPage(session, player, render, snapshot);
+            if (!previous.getLegacyTitle().equals(render.getLegacyTitle())) {
+                // Titles can't be changed in place; this re-sends the window but keeps the inventory
+                player.getOpenInventory().setTitle(render.getLegacyTitle());
+            }
+            return;
+        }
+
+        ArmorBrowserHolder holder = new ArmorBrowserHolder(render.getTier(), snapshot.version(),
+            snapshot.gui().size(), render.getTitle());
+        session = new GuiSession(holder);
+        showPage(session, player, render, snapshot);
+        SESSIONS.put(player.getUniqueId(), session);
+        player.openInventory(holder.getInventory());
     }
 
-    // ==================== Inventory Creation ====================
+    /**
+     * Checks whether the player is looking at their armor browser.
+     */
+    public static boolean isBrowsing(Player player) {
+        GuiSession session = SESSIONS.get(player.getUniqueId());
+        return session != null && session.isOpenFor(player);
+    }
 
     /**
-     * Creates the base inventory with border glass panes and accent decorations.
+     * Ends a player's browser session.
+     *
+     * @param playerId  the player whose session ends
+     * @param inventory the inventory that was closed, or null to end the session regardless
      */
-    private static Inventory createBaseInventory(int currentPage, int maxPages, ConfigManager config) {
-        String title = config.getGUITitle()
-            .replace("{tier}", String.valueOf(currentPage))
-            .replace("{max_tier}", String.valueOf(maxPages));
-        
-        int guiSize = config.getGUISize();
-        // Use Adventure Component for proper color support in modern Paper
-        Component titleComponent = TextUtils.colorizeToComponent(title);
-        Inventory inventory = Bukkit.createInventory(null, guiSize, titleComponent);
+    public static void endSession(UUID playerId, Inventory inventory) {
+        GuiSession session = SESSIONS.get(playerId);
+        if (session != null && (inventory == null || session.getInventory() == inventory)) {
+            SESSIONS.remove(playerId);
+        }
+    }
+
+    /**
+     * Closes every open browser, e.g. when the plugin is disabled.
+     */
+    public static void closeAllSessions() {
+        for (UUID playerId : new ArrayList<>(SESSIONS.keySet())) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                player.closeInventory();
+            }
+        }
+        SESSIONS.clear();
+    }
 
-        fillWithBorder(inventory, guiSize, config);
-        addAccentDecorations(inventory, config);
+    // ==================== Pre-rendering ====================
 
-        return inventory;
+    /**
+     * Re-renders every page from a newly published registry.
+     * Called on the main thread on enable and after each reload, once the registry is live.
+     */
+    public static void rebuildPages(ArmorRegistry registry, ConfigManager config) {
+        pages = TierPageCache.build(registry, config);
     }
 
     /**
-     * Fills all inventory slots with border glass panes.
+     * Builds the border and accent panes shared by every page, indexed by slot.
+     * Called by {@link TierPageCache} when tiers are (re)loaded.
      */
-    private static void fillWithBorder(Inventory inventory, int guiSize, ConfigManager config) {
+    public static ItemStack[] buildFrame(ConfigManager config) {
+        int guiSize = config.getGUISize();
+        ItemStack[] frame = new ItemStack[guiSize];
+
         ItemStack borderPane = createGlassPane(config.getBorderPaneMaterial());
         for (int slot = 0; slot < guiSize; slot++) {
-            inventory.setItem(slot, borderPane);
+            frame[slot] = borderPane;
         }
-    }
 
-    /**
-     * Adds accent glass panes at designated positions from config.
-     */
-    private static void addAccentDecorations(Inventory inventory, ConfigManager config) {
         ItemStack accentPane = createGlassPane(config.getAccentPaneMaterial());
         for (int slot : config.getAccentSlots()) {
-            if (slot >= 0 && slot < inventory.getSize()) {
-                inventory.setItem(slot, accentPane);
+            if (slot >= 0 && slot < guiSize) {
+                frame[slot] = accentPane;
             }
         }
+
+        return frame;
     }
 
     /**
-     * Populates the inventory with all interactive and informational items.
+     * Renders everything on a tier page that does not depend on the viewer.
+     * Called by {@link TierPageCache} when tiers are (re)loaded.
+     *
+     * @param tier     the tier to render
+     * @param previous the closest registered tier below it, or null if it is the lowest
+     * @param next     the closest registered tier above it, or null if it is the highest
+     * @param maxTier  the highest registered tier
      */
-    private static void populateInventory(Inventory inventory, Player player, ArmorTier tier,
-                                          int currentPage, int maxPages, ConfigManager config) {
+    public static TierRender renderTier(ArmorTier tier, ArmorTier previous, ArmorTier next,
+                                        int maxTier, ConfigManager config) {
+        int page = tier.getTier();
+        String title = config.getGUITitleTemplate().render(
+            new PlaceholderContext(config.getAccentColor()).tier(tier).maxTier(maxTier));
+        // Use Adventure Component for proper color support in modern Paper
+        Component titleComponent = TextUtils.colorizeToComponent(title);
+
         List<Component> armorLore = buildArmorPieceLore(tier, config);
 
-        inventory.setItem(config.getSlotTierInfo(), createTierInfoItem(tier, config));
-        inventory.setItem(config.getSlotHelmet(), createHelmetItem(tier, armorLore, config));
-        inventory.setItem(config.getSlotChestplate(), createLeatherArmorItem(Material.LEATHER_CHESTPLATE, tier, "Chestplate", armorLore, config));
-        inventory.setItem(config.getSlotLeggings(), createLeatherArmorItem(Material.LEATHER_LEGGINGS, tier, "Leggings", armorLore, config));
-        inventory.setItem(config.getSlotBoots(), createLeatherArmorItem(Material.LEATHER_BOOTS, tier, "Boots", armorLore, config));
-        inventory.setItem(config.getSlotPlayerStats(), createPlayerStatsItem(player, config));
+        Map<ArmorPart, ItemStack> displayItems = new EnumMap<>(ArmorPart.class);
+        displayItems.put(ArmorPart.HEAD, createHelmetItem(tier, armorLore, config));
+        for (ArmorPart part : new ArmorPart[]{ArmorPart.CHESTPLATE, ArmorPart.LEGGINGS, ArmorPart.BOOTS}) {
+            displayItems.put(part, createLeatherArmorItem(part.getMaterial(), tier, part.getDisplayName(), armorLore, config));
+        }
+
+        int previousTier = previous != null ? previous.getTier() : 0;
+        ItemStack previousArrow = previous != null ? createNavigationArrow(previous, false, config) : null;
+        int nextTier = next != null ? next.getTier() : 0;
+        ItemStack nextArrow = next != null ? createNavigationArrow(next, true, config) : null;
 
-        addNavigationItems(inventory, currentPage, maxPages, config);
+        return new TierRender(tier, titleComponent, TITLE_SERIALIZER.serialize(titleComponent), armorLore, createTierInfoItem(tier, config),
+            displayItems, previousTier, previousArrow, nextTier, nextArrow);
+    }
+
+    // ==================== Inventory Population ====================
+
+    /**
+     * Renders a page into a session, writing only the slots whose content changed.
+     * The layout is built in the same order as a fresh page: frame, items, stats, then navigation arrows.
+     */
+    private static void showPage(GuiSession session, Player player, TierRender render, ConfigSnapshot snapshot) {
+        ConfigSnapshot.Slots slots = snapshot.gui().slots();
+        ItemStack[] layout = pages.getFrame();
+
+        layout[slots.tierInfo()] = render.getTierInfoItem();
+        layout[slots.helmet()] = render.getDisplayItem(ArmorPart.HEAD);
+        layout[slots.chestplate()] = render.getDisplayItem(ArmorPart.CHESTPLATE);
+        layout[slots.leggings()] = render.getDisplayItem(ArmorPart.LEGGINGS);
+        layout[slots.boots()] = render.getDisplayItem(ArmorPart.BOOTS);
+        layout[slots.playerStats()] = null;
+        if (render.getPreviousArrow() != null) {
+            layout[slots.previous()] = render.getPreviousArrow();
+        }
+        if (render.getNextArrow() != null) {
+            layout[slots.next()] = render.getNextArrow();
+        }
+
+        for (int slot = 0; slot < layout.length; slot++) {
+            if (layout[slot] != null) {
+                session.setSlot(slot, layout[slot]);
+            }
+        }
+
+        // An arrow placed over the stats slot wins, as it did when arrows were added last
+        if (layout[slots.playerStats()] == null) {
+            int essence = EssenceUtils.getPlayerEssence(player);
+            double multiplier = ArmorUtils.getArmorStats(player);
+            int armorCount = ArmorUtils.getArmorAmount(player);
+            if (session.updateStats(snapshot.version(), essence, multiplier, armorCount)) {
+                session.setSlot(slots.playerStats(),
+                    createPlayerStatsItem(player, CustomArmor.getInstance().getConfigManager(), essence, multiplier, armorCount));
+            }
+        }
+
+        session.setRender(render, snapshot.version());
     }
 
     // ==================== Item Creation Methods ====================
@@ -160,28 +297,9 @@ public class ArmorGUI {
             return item;
         }
 
-        String accentColor = config.getAccentColor();
-        double fullSetBonus = tier.getMultiplier() * ARMOR_PIECES_PER_SET;
-        
-        String displayName = config.getTierInfoName()
-            .replace("{hex_color}", tier.getHexColor())
-            .replace("{tier_name}", tier.getName())
-            .replace("{tier}", String.valueOf(tier.getTier()));
-        meta.displayName(TextUtils.colorizeToComponent(displayName));
-
-        List<Component> lore = new ArrayList<>();
-        for (String line : config.getTierInfoLore()) {
-            String processedLine = line
-                .replace("{accent}", accentColor)
-                .replace("{hex_color}", tier.getHexColor())
-                .replace("{tier_name}", tier.getName())
-                .replace("{tier}", String.valueOf(tier.getTier()))
-                .replace("{multiplier}", String.valueOf(tier.getMultiplier()))
-                .replace("{price}", String.valueOf(tier.getPrice()))
-                .replace("{full_set_bonus}", String.format("%.2f", fullSetBonus));
-            lore.add(TextUtils.colorizeToComponent(processedLine));
-        }
-        meta.lore(lore);
+        PlaceholderContext context = new PlaceholderContext(config.getAccentColor()).tier(tier);
+        meta.displayName(TextUtils.colorizeToComponent(config.getTierInfoNameTemplate().render(context)));
+        meta.lore(renderLore(config.getTierInfoLoreTemplates(), context));
 
         item.setItemMeta(meta);
         return item;
@@ -191,20 +309,14 @@ public class ArmorGUI {
      * Creates the custom helmet item using a player head with custom texture.
      */
     private static ItemStack createHelmetItem(ArmorTier tier, List<Component> lore, ConfigManager config) {
-        ItemStack helmet = new ItemStack(Material.PLAYER_HEAD);
+        ItemStack helmet = HeadTextureCache.createHead(tier.getHeadTexture());
         SkullMeta meta = (SkullMeta) helmet.getItemMeta();
         if (meta == null) {
             return helmet;
         }
 
-        PlayerProfile profile = Bukkit.createProfile(UUID.randomUUID());
-        profile.setProperty(new ProfileProperty("textures", tier.getHeadTexture()));
-        meta.setPlayerProfile(profile);
-
-        String displayName = config.getArmorPieceNameFormat()
-            .replace("{hex_color}", tier.getHexColor())
-            .replace("{tier_name}", tier.getName())
-            .replace("{piece_name}", "Helmet");
+        String displayName = config.getArmorPieceNameTemplate().render(
+            new PlaceholderContext(config.getAccentColor()).tier(tier).pieceName(ArmorPart.HEAD.getDisplayName()));
         meta.displayName(TextUtils.colorizeToComponent(displayName));
         meta.lore(lore);
 
@@ -225,10 +337,8 @@ public class ArmorGUI {
 
         meta.setColor(tier.getRgbColor());
 
-        String displayName = config.getArmorPieceNameFormat()
-            .replace("{hex_color}", tier.getHexColor())
-            .replace("{tier_name}", tier.getName())
-            .replace("{piece_name}", pieceName);
+        String displayName = config.getArmorPieceNameTemplate().render(
+            new PlaceholderContext(config.getAccentColor()).tier(tier).pieceName(pieceName));
         meta.displayName(TextUtils.colorizeToComponent(displayName));
         meta.lore(lore);
 
@@ -239,7 +349,8 @@ public class ArmorGUI {
     /**
      * Creates the player statistics item showing current armor stats and essence balance.
      */
-    private static ItemStack createPlayerStatsItem(Player player, ConfigManager config) {
+    private static ItemStack createPlayerStatsItem(Player player, ConfigManager config,
+                                                   int essence, double multiplier, int armorCount) {
         ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
         SkullMeta meta = (SkullMeta) skull.getItemMeta();
         if (meta == null) {
@@ -248,25 +359,15 @@ public class ArmorGUI {
 
         meta.setOwningPlayer(player);
 
-        int essence = EssenceUtils.getPlayerEssence(player);
-        double multiplier = ArmorUtils.getArmorStats(player);
-        int armorCount = ArmorUtils.getArmorAmount(player);
-        String accentColor = config.getAccentColor();
-
-        String displayName = config.getPlayerStatsName()
-            .replace("{accent}", accentColor)
-            .replace("{player}", player.getName());
-        meta.displayName(TextUtils.colorizeToComponent(displayName));
-
+        PlaceholderContext context = new PlaceholderContext(config.getAccentColor())
+            .player(player)
+            .armorStats(multiplier, armorCount)
+            .essence(essence);
+        // Rendered per player, so kept out of the shared text cache
+        meta.displayName(TextUtils.parseDynamic(config.getPlayerStatsNameTemplate().render(context)));
         List<Component> lore = new ArrayList<>();
-        for (String line : config.getPlayerStatsLore()) {
-            String processedLine = line
-                .replace("{accent}", accentColor)
-                .replace("{player}", player.getName())
-                .replace("{multiplier}", String.format("%.2f", multiplier))
-                .replace("{armor_count}", String.valueOf(armorCount))
-                .replace("{essence}", String.valueOf(essence));
-            lore.add(TextUtils.colorizeToComponent(processedLine));
+        for (PlaceholderTemplate template : config.getPlayerStatsLoreTemplates()) {
+            lore.add(TextUtils.parseDynamic(template.render(context)));
         }
         meta.lore(lore);
 
@@ -276,25 +377,13 @@ public class ArmorGUI {
 
     // ==================== Navigation Methods ====================
 
-    /**
-     * Adds navigation arrow items for browsing between tier pages.
-     */
-    private static void addNavigationItems(Inventory inventory, int currentPage, int maxPages, ConfigManager config) {
-        if (currentPage > 1) {
-            inventory.setItem(config.getSlotPrevious(), createNavigationArrow(currentPage - 1, false, config));
-        }
-        if (currentPage < maxPages) {
-            inventory.setItem(config.getSlotNext(), createNavigationArrow(currentPage + 1, true, config));
-        }
-    }
-
     /**
      * Creates a navigation arrow item for moving between tier pages.
      *
-     * @param targetPage the page number this arrow navigates to
+     * @param targetTier the tier this arrow navigates to, or null if it is not registered
      * @param isNext     true for next arrow, false for previous arrow
      */
-    private static ItemStack createNavigationArrow(int targetPage, boolean isNext, ConfigManager config) {
+    private static ItemStack createNavigationArrow(ArmorTier targetTier, boolean isNext, ConfigManager config) {
         ItemStack arrow = new ItemStack(config.getNavigationArrowMaterial());
         ItemMeta meta = arrow.getItemMeta();
         if (meta == null) {
@@ -304,18 +393,11 @@ public class ArmorGUI {
         String displayName = isNext ? config.getNavigationNextName() : config.getNavigationPreviousName();
         meta.displayName(TextUtils.colorizeToComponent(displayName));
 
-        ArmorTier targetTier = CustomArmor.getInstance().getArmorRegistry().getTier(targetPage);
         if (targetTier != null) {
-            List<String> loreTemplate = isNext ? config.getNavigationNextLore() : config.getNavigationPreviousLore();
-            List<Component> lore = new ArrayList<>();
-            for (String line : loreTemplate) {
-                String processedLine = line
-                    .replace("{target_hex_color}", targetTier.getHexColor())
-                    .replace("{target_tier_name}", targetTier.getName())
-                    .replace("{target_tier}", String.valueOf(targetPage));
-                lore.add(TextUtils.colorizeToComponent(processedLine));
-            }
-            meta.lore(lore);
+            List<PlaceholderTemplate> loreTemplates = isNext
+                ? config.getNavigationNextLoreTemplates()
+                : config.getNavigationPreviousLoreTemplates();
+            meta.lore(renderLore(loreTemplates, new PlaceholderContext(config.getAccentColor()).targetTier(targetTier)));
         }
 
         arrow.setItemMeta(meta);
@@ -329,27 +411,17 @@ public class ArmorGUI {
      * Returns Components with italic disabled by default.
      */
     private static List<Component> buildArmorPieceLore(ArmorTier tier, ConfigManager config) {
-        List<Component> lore = new ArrayList<>();
-        String accentColor = config.getAccentColor();
-        
-        for (String line : config.getArmorPieceLore()) {
-            String processedLine = line
-                .replace("{accent}", accentColor)
-                .replace("{hex_color}", tier.getHexColor())
-                .replace("{tier_name}", tier.getName())
-                .replace("{tier}", String.valueOf(tier.getTier()))
-                .replace("{multiplier}", String.valueOf(tier.getMultiplier()))
-                .replace("{price}", String.valueOf(tier.getPrice()));
-            lore.add(TextUtils.colorizeToComponent(processedLine));
-        }
-        
-        return lore;
+        return renderLore(config.getArmorPieceLoreTemplates(), new PlaceholderContext(config.getAccentColor()).tier(tier));
     }
 
     /**
-     * Clamps a value between a minimum and maximum bound.
+     * Renders compiled lore templates into Components.
      */
-    private static int clamp(int value, int min, int max) {
-        return Math.max(min, Math.min(max, value));
+    private static List<Component> renderLore(List<PlaceholderTemplate> templates, PlaceholderContext context) {
+        List<Component> lore = new ArrayList<>(templates.size());
+        for (PlaceholderTemplate template : templates) {
+            lore.add(TextUtils.colorizeToComponent(template.render(context)));
+        }
+        return lore;
     }
 }
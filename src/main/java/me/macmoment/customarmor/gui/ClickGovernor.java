@@ -0,0 +1,153 @@
+package me.macmoment.customarmor.gui;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps click spam in the armor browser from costing tick time.
+ * <p>
+ * Repeats of a click already handled in the same tick are dropped, purchases are limited per player by a
+ * token bucket ({@code gui.click-limit}), and page changes are coalesced: however many navigation clicks
+ * or purchases arrive in one tick, the browser is re-rendered once, on the next tick, at the final page.
+ * All state is per player and only touched on the main thread.
+ * </p>
+ */
+public class ClickGovernor {
+    private final Map<UUID, ClickState> states = new HashMap<>();
+
+    private final LongAdder duplicateClicks = new LongAdder();
+    private final LongAdder rejectedPurchases = new LongAdder();
+    private final LongAdder coalescedRenders = new LongAdder();
+
+    /**
+     * Filters out a repeat of the click the player already made on the same slot this tick
+     *
+     * @return true if the click should be handled
+     */
+    public boolean acceptClick(Player player, int slot) {
+        ClickState state = state(player);
+        int tick = Bukkit.getCurrentTick();
+        if (state.lastClickTick == tick && state.lastClickSlot == slot) {
+            duplicateClicks.increment();
+            return false;
+        }
+        state.lastClickTick = tick;
+        state.lastClickSlot = slot;
+        return true;
+    }
+
+    /**
+     * Takes a purchase token from the player's bucket
+     *
+     * @return true if the purchase may go ahead
+     */
+    public boolean tryPurchase(Player player, ConfigSnapshot.ClickLimit limit) {
+        if (limit.purchasesPerSecond() <= 0) return true;
+
+        ClickState state = state(player);
+        long now = System.nanoTime();
+        double refill = (now - state.lastRefill) * limit.purchasesPerSecond() / 1_000_000_000.0;
+        state.tokens = Math.min(limit.burst(), state.tokens + refill);
+        state.lastRefill = now;
+
+        if (state.tokens < 1.0) {
+            rejectedPurchases.increment();
+            return false;
+        }
+        state.tokens -= 1.0;
+        return true;
+    }
+
+    /**
+     * Gets the page the browser will show after pending renders, for relative navigation
+     *
+     * @param shown the page currently shown
+     */
+    public int getTargetPage(Player player, int shown) {
+        ClickState state = states.get(player.getUniqueId());
+        return state != null && state.pendingPage > 0 ? state.pendingPage : shown;
+    }
+
+    /**
+     * Asks for the player's browser to show a page; renders requested in the same tick collapse into one
+     */
+    public void requestRender(Player player, int page) {
+        int target = CustomArmor.getInstance().getArmorRegistry().resolveTier(page);
+        if (target == 0) return;
+
+        ClickState state = state(player);
+        boolean scheduled = state.pendingPage > 0;
+        state.pendingPage = target;
+
+        if (scheduled) {
+            coalescedRenders.increment();
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        Bukkit.getScheduler().runTask(CustomArmor.getInstance(), () -> flush(playerId));
+    }
+
+    private void flush(UUID playerId) {
+        ClickState state = states.get(playerId);
+        if (state == null || state.pendingPage == 0) return;
+
+        int page = state.pendingPage;
+        state.pendingPage = 0;
+
+        // The player may have closed the browser or left since the click
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null && ArmorGUI.isBrowsing(player)) {
+            ArmorGUI.openGUI(player, page);
+        }
+    }
+
+    public void forget(UUID playerId) {
+        states.remove(playerId);
+    }
+
+    public void clear() {
+        states.clear();
+    }
+
+    /**
+     * @return clicks dropped as same-tick repeats
+     */
+    public long getDuplicateClicks() {
+        return duplicateClicks.sum();
+    }
+
+    /**
+     * @return purchases refused by the rate limit
+     */
+    public long getRejectedPurchases() {
+        return rejectedPurchases.sum();
+    }
+
+    /**
+     * @return renders folded into one already scheduled for the same tick
+     */
+    public long getCoalescedRenders() {
+        return coalescedRenders.sum();
+    }
+
+    private ClickState state(Player player) {
+        return states.computeIfAbsent(player.getUniqueId(), id -> new ClickState());
+    }
+
+    private static final class ClickState {
+        private int lastClickTick = -1;
+        private int lastClickSlot = -1;
+        // Starts above any burst size, so the first refill caps it to a full bucket
+        private double tokens = Double.MAX_VALUE;
+        private long lastRefill = System.nanoTime();
+        // Page of the scheduled render, 0 if none
+        private int pendingPage;
+    }
+}
@@ -0,0 +1,82 @@
+package me.macmoment.customarmor.gui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * One player's open armor browser.
+ * <p>
+ * The inventory stays open while the player navigates or buys; {@link ArmorGUI} re-renders it in place.
+ * The session remembers which prototype it last placed in every slot, so a re-render only writes
+ * the slots whose prototype changed, and the stats head is only rebuilt when the stats it shows change.
+ * </p>
+ */
+final class GuiSession {
+    private final ArmorBrowserHolder holder;
+    private final ItemStack[] shown;
+    private TierRender render;
+
+    // Values the stats head was last built with
+    private int statsConfigVersion = -1;
+    private int statsEssence = -1;
+    private double statsMultiplier = -1;
+    private int statsArmorCount = -1;
+
+    GuiSession(ArmorBrowserHolder holder) {
+        this.holder = holder;
+        this.shown = new ItemStack[holder.getInventory().getSize()];
+    }
+
+    Inventory getInventory() {
+        return holder.getInventory();
+    }
+
+    /**
+     * @return the page currently shown, or null before the first render
+     */
+    TierRender getRender() {
+        return render;
+    }
+
+    void setRender(TierRender render, int configVersion) {
+        this.render = render;
+        holder.update(render.getTier(), configVersion);
+    }
+
+    /**
+     * Checks whether the player is still looking at this session's inventory
+     */
+    boolean isOpenFor(Player player) {
+        return player.getOpenInventory().getTopInventory() == holder.getInventory();
+    }
+
+    /**
+     * Places a prototype in a slot unless that same prototype is already there.
+     * Inventory#setItem stores a copy, so shared prototypes are passed directly.
+     */
+    void setSlot(int slot, ItemStack prototype) {
+        if (shown[slot] == prototype) {
+            return;
+        }
+        holder.getInventory().setItem(slot, prototype);
+        shown[slot] = prototype;
+    }
+
+    /**
+     * Records the stats about to be shown
+     *
+     * @return true if they differ from the ones the stats head was last built with
+     */
+    boolean updateStats(int configVersion, int essence, double multiplier, int armorCount) {
+        if (configVersion == statsConfigVersion && essence == statsEssence
+                && multiplier == statsMultiplier && armorCount == statsArmorCount) {
+            return false;
+        }
+        statsConfigVersion = configVersion;
+        statsEssence = essence;
+        statsMultiplier = multiplier;
+        statsArmorCount = armorCount;
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package me.macmoment.customarmor.gui;
+
+import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.data.ArmorRegistry;
+import me.macmoment.customarmor.data.ArmorTier;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Pre-rendered armor browser pages for one registry, indexed by tier number
+ * <p>
+ * Built by {@link ArmorGUI#rebuildPages} on the main thread whenever a registry is published, so opening
+ * the GUI only copies prototypes. Never modified once built.
+ * </p>
+ */
+final class TierPageCache {
+    static final TierPageCache EMPTY = new TierPageCache(new TierRender[1], new ItemStack[0]);
+
+    private final TierRender[] renders;
+    private final ItemStack[] frame;
+
+    private TierPageCache(TierRender[] renders, ItemStack[] frame) {
+        this.renders = renders;
+        this.frame = frame;
+    }
+
+    /**
+     * Renders every tier page of the registry, plus the frame shared by all of them
+     */
+    static TierPageCache build(ArmorRegistry registry, ConfigManager config) {
+        int maxTier = registry.getMaxTier();
+        TierRender[] renders = new TierRender[maxTier + 1];
+        for (ArmorTier armorTier : registry.getTiers()) {
+            int tier = armorTier.getTier();
+            renders[tier] = ArmorGUI.renderTier(armorTier, registry.getTier(registry.getPreviousTier(tier)),
+                registry.getTier(registry.getNextTier(tier)), maxTier, config);
+        }
+        return new TierPageCache(renders, ArmorGUI.buildFrame(config));
+    }
+
+    /**
+     * @return the page of a tier, or null if the tier is not registered
+     */
+    TierRender getRender(int tier) {
+        return tier >= 0 && tier < renders.length ? renders[tier] : null;
+    }
+
+    /**
+     * Gets the border and accent panes, indexed by slot
+     * The array is a copy; the items in it are shared prototypes
+     */
+    ItemStack[] getFrame() {
+        return frame.clone();
+    }
+}
@@ -0,0 +1,102 @@
+package me.macmoment.customarmor.gui;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorTier;
+import net.kyori.adventure.text.Component;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-rendered GUI content for a single armor tier.
+ * <p>
+ * Built once per registry by {@link TierPageCache} and shared by every viewer.
+ * The item stacks held here are prototypes: {@code Inventory#setItem} stores its own copy,
+ * so they can be placed directly, but they must be cloned before being modified.
+ * </p>
+ */
+public final class TierRender {
+    private final ArmorTier tier;
+    private final Component title;
+    private final String legacyTitle;
+    private final List<Component> armorLore;
+    private final ItemStack tierInfoItem;
+    private final Map<ArmorPart, ItemStack> displayItems;
+    private final int previousTier;
+    private final ItemStack previousArrow;
+    private final int nextTier;
+    private final ItemStack nextArrow;
+
+    public TierRender(ArmorTier tier, Component title, String legacyTitle, List<Component> armorLore, ItemStack tierInfoItem,
+                      Map<ArmorPart, ItemStack> displayItems, int previousTier, ItemStack previousArrow,
+                      int nextTier, ItemStack nextArrow) {
+        this.tier = tier;
+        this.title = title;
+        this.legacyTitle = legacyTitle;
+        this.armorLore = List.copyOf(armorLore);
+        this.tierInfoItem = tierInfoItem;
+        this.displayItems = Collections.unmodifiableMap(new EnumMap<>(displayItems));
+        this.previousTier = previousTier;
+        this.previousArrow = previousArrow;
+        this.nextTier = nextTier;
+        this.nextArrow = nextArrow;
+    }
+
+    public ArmorTier getTier() {
+        return tier;
+    }
+
+    public Component getTitle() {
+        return title;
+    }
+
+    /**
+     * @return the title serialized with section-sign color codes, for APIs that only take strings
+     */
+    public String getLegacyTitle() {
+        return legacyTitle;
+    }
+
+    public List<Component> getArmorLore() {
+        return armorLore;
+    }
+
+    public ItemStack getTierInfoItem() {
+        return tierInfoItem;
+    }
+
+    public ItemStack getDisplayItem(ArmorPart part) {
+        return displayItems.get(part);
+    }
+
+    /**
+     * @return the tier the previous arrow leads to, or 0 if there is no previous arrow
+     */
+    public int getPreviousTier() {
+        return previousTier;
+    }
+
+    /**
+     * @return the previous arrow prototype, or null if this is the first tier
+     */
+    public ItemStack getPreviousArrow() {
+        return previousArrow;
+    }
+
+    /**
+     * @return the tier the next arrow leads to, or 0 if there is no next arrow
+     */
+    public int getNextTier() {
+        return nextTier;
+    }
+
+    /**
+     * @return the next arrow prototype, or null if this is the last tier
+     */
+    public ItemStack getNextArrow() {
+        return nextArrow;
+    }
+}
@@ -0,0 +1,133 @@
+package me.macmoment.customarmor.listeners;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.EffectHook;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerExpChangeEvent;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Applies each player's armor multiplier to the hooks enabled under {@code effects}
+ * <p>
+ * Factors are stacked and capped when the player's equipment changes (see {@link me.macmoment.customarmor.data.PlayerArmorState}),
+ * so each event costs an instanceof check and, for players, one cache lookup; no inventory or item data is read.
+ * Runs at HIGH so protection plugins can cancel first and loggers at MONITOR see the final values.
+ * </p>
+ */
+public class ArmorEffectListener implements Listener {
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+        if (event.getEntity() instanceof Player victim) {
+            double factor = factor(victim, EffectHook.DAMAGE_TAKEN);
+            if (factor != 1.0) {
+                event.setDamage(event.getDamage() / factor);
+            }
+        }
+
+        if (event instanceof EntityDamageByEntityEvent byEntity) {
+            Player attacker = attackerOf(byEntity.getDamager());
+            if (attacker != null) {
+                double factor = factor(attacker, EffectHook.DAMAGE_DEALT);
+                if (factor != 1.0) {
+                    event.setDamage(event.getDamage() * factor);
+                }
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onExperience(PlayerExpChangeEvent event) {
+        if (event.getAmount() <= 0) return;
+        double factor = factor(event.getPlayer(), EffectHook.EXPERIENCE);
+        if (factor != 1.0) {
+            event.setAmount(scale(event.getAmount(), factor));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onMobDeath(EntityDeathEvent event) {
+        LivingEntity entity = event.getEntity();
+        // Player deaths drop their inventory, which must not be multiplied
+        if (entity instanceof Player) return;
+        Player killer = entity.getKiller();
+        if (killer == null) return;
+
+        double factor = factor(killer, EffectHook.DROPS);
+        if (factor == 1.0) return;
+        List<ItemStack> carried = carriedItems(entity);
+        for (ItemStack drop : event.getDrops()) {
+            // Only loot is multiplied; anything the mob carried could have been handed to it by a player
+            if (isCarried(drop, carried)) continue;
+            // The factor is never below 1, so a drop only grows; never let rounding shrink or delete it
+            int amount = Math.max(scale(drop.getAmount(), factor), drop.getAmount());
+            drop.setAmount(Math.min(amount, Math.max(drop.getMaxStackSize(), drop.getAmount())));
+        }
+    }
+
+    private static double factor(Player player, EffectHook hook) {
+        return CustomArmor.getInstance().getArmorStateCache().get(player).getEffectFactor(hook);
+    }
+
+    /**
+     * Gets what a mob carries rather than generates as loot: its equipment, including picked-up items,
+     * and the inventory of chested animals and allays
+     */
+    private static List<ItemStack> carriedItems(LivingEntity entity) {
+        List<ItemStack> carried = new ArrayList<>();
+        EntityEquipment equipment = entity.getEquipment();
+        if (equipment != null) {
+            carried.addAll(Arrays.asList(equipment.getArmorContents()));
+            carried.add(equipment.getItemInMainHand());
+            carried.add(equipment.getItemInOffHand());
+        }
+        if (entity instanceof InventoryHolder holder) {
+            carried.addAll(Arrays.asList(holder.getInventory().getContents()));
+        }
+        return carried;
+    }
+
+    private static boolean isCarried(ItemStack drop, List<ItemStack> carried) {
+        for (ItemStack item : carried) {
+            if (item != null && !item.getType().isAir() && drop.isSimilar(item)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the player behind a hit: the damager itself, or the shooter of a projectile
+     */
+    private static Player attackerOf(Entity damager) {
+        if (damager instanceof Player player) return player;
+        if (damager instanceof Projectile projectile && projectile.getShooter() instanceof Player shooter) return shooter;
+        return null;
+    }
+
+    /**
+     * Scales a whole amount, rounding the fraction up with matching probability so small amounts still grow on average
+     */
+    private static int scale(int amount, double factor) {
+        double scaled = amount * factor;
+        int whole = (int) scaled;
+        if (ThreadLocalRandom.current().nextDouble() < scaled - whole) {
+            whole++;
+        }
+        return whole;
+    }
+}
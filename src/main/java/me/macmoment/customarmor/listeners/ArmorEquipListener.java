@@ -0,0 +1,43 @@
+package me.macmoment.customarmor.listeners;
+
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.utils.ArmorUtils;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+
+/**
+ * Keeps the cached armor state of each player in sync with their equipment
+ */
+public class ArmorEquipListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(PlayerArmorChangeEvent event) {
+        // Pieces issued under an older attribute config are brought up to date as they are put on
+        ArmorUtils.refreshWornAttributes(event.getPlayer(), CustomArmor.getInstance().getConfigManager().getSnapshot());
+        CustomArmor.getInstance().getArmorStateCache().recompute(event.getPlayer());
+        // The owned-armor index records where each piece is, and this one just moved
+        CustomArmor.getInstance().getInventoryTracker().markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        ArmorUtils.refreshWornAttributes(event.getPlayer(), CustomArmor.getInstance().getConfigManager().getSnapshot());
+        CustomArmor.getInstance().getArmorStateCache().recompute(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        CustomArmor.getInstance().getArmorStateCache().recompute(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        CustomArmor.getInstance().getArmorStateCache().remove(event.getPlayer().getUniqueId());
+        CustomArmor.getInstance().getApiService().remove(event.getPlayer().getUniqueId());
+    }
+}
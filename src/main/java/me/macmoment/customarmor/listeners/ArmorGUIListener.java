@@ -2,92 +2,91 @@ package me.macmoment.customarmor.listeners;
 
 import me.macmoment.customarmor.CustomArmor;
 import me.macmoment.customarmor.config.ConfigManager;
-import me.macmoment.customarmor.data.ArmorTier;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.config.SlotAction;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorRegistry;
+import me.macmoment.customarmor.gui.ArmorBrowserHolder;
 import me.macmoment.customarmor.gui.ArmorGUI;
-import me.macmoment.customarmor.utils.ArmorUtils;
-import me.macmoment.customarmor.utils.EssenceUtils;
+import me.macmoment.customarmor.gui.ClickGovernor;
+import me.macmoment.customarmor.metrics.Metrics;
+import me.macmoment.customarmor.shop.PurchaseEngine;
+import me.macmoment.customarmor.shop.PurchaseResult;
+import me.macmoment.customarmor.utils.PlaceholderContext;
 import me.macmoment.customarmor.utils.TextUtils;
-import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
-import org.bukkit.inventory.ItemStack;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
 
 /**
  * Handles clicks in the armor GUI
- * All slot positions are read from config for full customization
+ * Clicks are dispatched through the slot layout compiled from config
  */
 public class ArmorGUIListener implements Listener {
 
-    // Pattern to match our GUI title format: "Armor Browser (Tier X/Y)"
-    private static final Pattern GUI_TITLE_PATTERN = Pattern.compile("^Armor Browser \\(Tier \\d+/\\d+\\)$");
-
-    /**
-     * Checks if the inventory view title matches our armor browser GUI.
-     * Uses exact pattern matching to avoid matching unintended inventories.
-     */
-    private boolean isArmorBrowserGUI(String title) {
-        return GUI_TITLE_PATTERN.matcher(title).matches();
-    }
-
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         
-        Player player = (Player) event.getWhoClicked();
-        String title = PlainTextComponentSerializer.plainText().serialize(event.getView().title());
+        // Check if this is our armor browser GUI (no snapshot needed, our holder is not a block state)
+        InventoryHolder holder = event.getInventory().getHolder(false);
+        if (!(holder instanceof ArmorBrowserHolder)) return;
         
-        // Check if this is our armor browser GUI
-        if (!isArmorBrowserGUI(title)) return;
+        Player player = (Player) event.getWhoClicked();
+        ArmorBrowserHolder browser = (ArmorBrowserHolder) holder;
         
         // Cancel all clicks in the armor browser GUI to prevent item taking
         event.setCancelled(true);
         
-        // Only process clicks in the top inventory (the GUI itself)
         // getRawSlot() returns the raw slot index. For a 54-slot chest, slots 0-53 are the top inventory.
         int slot = event.getRawSlot();
-        int guiSize = CustomArmor.getInstance().getConfigManager().getGUISize();
+        ConfigSnapshot snapshot = CustomArmor.getInstance().getConfigManager().getSnapshot();
+        ConfigSnapshot.Gui gui = snapshot.gui();
+        int page = browser.getPage();
         
-        // If clicked outside the GUI (negative slot) or in player inventory, just cancel and return
-        if (slot < 0 || slot >= guiSize) {
+        // The config was reloaded since this page was built - its slot layout may be stale, so re-render first
+        if (browser.getConfigVersion() != snapshot.version()) {
+            ArmorGUI.openGUI(player, page);
             return;
         }
         
-        // Extract tier number from title (format: "Armor Browser (Tier X/Y)")
-        Pattern pattern = Pattern.compile("Tier (\\d+)");
-        Matcher matcher = pattern.matcher(title);
+        // One lookup in the layout compiled at config load - slots outside the GUI map to NONE
+        SlotAction action = gui.slotAction(slot);
+        if (action == SlotAction.NONE) return;
         
-        if (!matcher.find()) return;
+        ClickGovernor governor = CustomArmor.getInstance().getClickGovernor();
+        if (!governor.acceptClick(player, slot)) return;
+        ArmorRegistry registry = CustomArmor.getInstance().getArmorRegistry();
         
-        int page = Integer.parseInt(matcher.group(1));
-        
-        // Get slot positions from config
-        ConfigManager config = CustomArmor.getInstance().getConfigManager();
-        
-        // Handle navigation and armor slots using config values
-        if (slot == config.getSlotPrevious()) {
-            // Previous tier
-            ArmorGUI.openGUI(player, page - 1);
-        } else if (slot == config.getSlotNext()) {
-            // Next tier
-            ArmorGUI.openGUI(player, page + 1);
-        } else if (slot == config.getSlotHelmet()) {
-            // Helmet
-            handleArmorPurchase(player, page, "head");
-        } else if (slot == config.getSlotChestplate()) {
-            // Chestplate
-            handleArmorPurchase(player, page, "chestplate");
-        } else if (slot == config.getSlotLeggings()) {
-            // Leggings
-            handleArmorPurchase(player, page, "leggings");
-        } else if (slot == config.getSlotBoots()) {
-            // Boots
-            handleArmorPurchase(player, page, "boots");
+        switch (action) {
+            case PREVIOUS_PAGE:
+                // Relative to any page change still waiting to render, so fast clicks aren't lost
+                int previousTier = registry.getPreviousTier(governor.getTargetPage(player, page));
+                if (previousTier > 0) {
+                    governor.requestRender(player, previousTier);
+                }
+                break;
+            case NEXT_PAGE:
+                int nextTier = registry.getNextTier(governor.getTargetPage(player, page));
+                if (nextTier > 0) {
+                    governor.requestRender(player, nextTier);
+                }
+                break;
+            case BUY_HELMET:
+            case BUY_CHESTPLATE:
+            case BUY_LEGGINGS:
+            case BUY_BOOTS:
+                if (governor.tryPurchase(player, gui.clickLimit())) {
+                    handleArmorPurchase(player, page, action.getPart());
+                }
+                break;
+            default:
+                break;
         }
     }
 
@@ -98,146 +97,86 @@ public class ArmorGUIListener implements Listener {
     public void onInventoryDrag(InventoryDragEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         
-        String title = PlainTextComponentSerializer.plainText().serialize(event.getView().title());
-        
         // Check if this is our armor browser GUI
-        if (!isArmorBrowserGUI(title)) return;
+        if (!(event.getInventory().getHolder(false) instanceof ArmorBrowserHolder)) return;
         
         // Cancel all drag events in the armor browser GUI to prevent any item manipulation
         event.setCancelled(true);
     }
 
     /**
-     * Handles armor purchase/upgrade logic
-     * Uses config for all messages and colors
+     * Ends the player's browser session when the browser is closed
      */
-    private void handleArmorPurchase(Player player, int tier, String part) {
-        ConfigManager config = CustomArmor.getInstance().getConfigManager();
-        ArmorTier armorTier = CustomArmor.getInstance().getArmorRegistry().getTier(tier);
-        if (armorTier == null) return;
-        
-        int price = armorTier.getPrice();
-        int playerEssence = EssenceUtils.getPlayerEssence(player);
-        String accentColor = config.getAccentColor();
-        
-        // Check if player has armor piece (equipped or in inventory)
-        boolean hasArmor = false;
-        int currentTier = 0;
-        boolean isEquipped = false;
-        int foundSlot = -1; // Slot index where the armor was found
-        
-        // First check equipped armor slots
-        ItemStack[] armorContents = player.getInventory().getArmorContents();
-        for (int i = 0; i < armorContents.length; i++) {
-            ItemStack armor = armorContents[i];
-            if (armor != null && ArmorUtils.isArmorPiece(armor) && matchesArmorPart(armor, part)) {
-                hasArmor = true;
-                currentTier = ArmorUtils.getArmorTier(armor);
-                isEquipped = true;
-                foundSlot = i;
-                break;
-            }
-        }
-        
-        // If not found in equipped slots, check regular inventory
-        if (!hasArmor) {
-            ItemStack[] inventoryContents = player.getInventory().getContents();
-            for (int i = 0; i < inventoryContents.length; i++) {
-                ItemStack item = inventoryContents[i];
-                if (item != null && ArmorUtils.isArmorPiece(item) && matchesArmorPart(item, part)) {
-                    hasArmor = true;
-                    currentTier = ArmorUtils.getArmorTier(item);
-                    isEquipped = false;
-                    foundSlot = i;
-                    break;
-                }
-            }
-        }
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (!(event.getInventory().getHolder(false) instanceof ArmorBrowserHolder)) return;
         
-        // If player has armor, check if upgrade
-        if (hasArmor) {
-            if (tier <= currentTier) {
-                String message = config.getShopMessage("already-owned");
-                player.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + message));
-                return;
-            }
-            
-            // Upgrade mode - calculate discount
-            int discountPerTier = config.getDiscountPerTier();
-            int minPrice = config.getMinimumPrice();
-            int discount = currentTier * discountPerTier;
-            int finalPrice = price - discount;
-            if (finalPrice < minPrice) finalPrice = minPrice;
-            
-            if (playerEssence >= finalPrice) {
-                EssenceUtils.removeEssence(player, finalPrice);
-                
-                // Remove old armor piece from the location it was found
-                if (isEquipped) {
-                    ItemStack[] currentArmorContents = player.getInventory().getArmorContents();
-                    currentArmorContents[foundSlot] = null;
-                    player.getInventory().setArmorContents(currentArmorContents);
-                } else {
-                    player.getInventory().setItem(foundSlot, null);
-                }
-                
-                ArmorUtils.giveArmor(player, tier, part);
-                String message = config.getShopMessage("upgraded")
-                    .replace("{part}", part)
-                    .replace("{tier}", String.valueOf(tier))
-                    .replace("{accent}", accentColor)
-                    .replace("{price}", String.valueOf(finalPrice))
-                    .replace("{discount}", String.valueOf(discount));
-                player.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + message));
-            } else {
-                String message = config.getShopMessage("need-essence-upgrade")
-                    .replace("{accent}", accentColor)
-                    .replace("{price}", String.valueOf(finalPrice))
-                    .replace("{discount}", String.valueOf(discount));
-                player.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + message));
-            }
-        } else {
-            // Buy new armor
-            if (playerEssence >= price) {
-                EssenceUtils.removeEssence(player, price);
-                ArmorUtils.giveArmor(player, tier, part);
-                String message = config.getShopMessage("purchased")
-                    .replace("{part}", part)
-                    .replace("{tier}", String.valueOf(tier))
-                    .replace("{accent}", accentColor)
-                    .replace("{price}", String.valueOf(price));
-                player.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + message));
-            } else {
-                String message = config.getShopMessage("need-essence")
-                    .replace("{accent}", accentColor)
-                    .replace("{price}", String.valueOf(price));
-                player.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + message));
-            }
+        ArmorGUI.endSession(event.getPlayer().getUniqueId(), event.getInventory());
+    }
+
+    /**
+     * Drops any browser session and click state of a player who leaves
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        ArmorGUI.endSession(event.getPlayer().getUniqueId(), null);
+        CustomArmor.getInstance().getClickGovernor().forget(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Handles armor purchase/upgrade logic
+     * The purchase itself is one transaction in {@link PurchaseEngine}; this only reports the result
+     */
+    private void handleArmorPurchase(Player player, int tier, ArmorPart part) {
+        long start = Metrics.start();
+        try {
+            PurchaseResult result = PurchaseEngine.purchase(player, tier, part);
+            Metrics.recordPurchase(result);
+            reportPurchase(player, tier, part, result);
+        } finally {
+            Metrics.PURCHASE.stop(start);
         }
-        
-        // Refresh GUI
-        ArmorGUI.openGUI(player, tier);
     }
-    
+
     /**
-     * Checks if the armor item matches the specified part type
+     * Tells the player how their purchase went and refreshes the browser
      */
-    private boolean matchesArmorPart(ItemStack armor, String part) {
-        String armorType = TextUtils.stripColor(
-            PlainTextComponentSerializer.plainText().serialize(armor.displayName())
-        );
+    private void reportPurchase(Player player, int tier, ArmorPart part, PurchaseResult result) {
+        // A cancelling plugin tells the player why itself
+        if (result.getStatus() == PurchaseResult.Status.UNKNOWN_TIER || result.getStatus() == PurchaseResult.Status.CANCELLED) return;
         
-        switch (part) {
-            case "head":
-                return armorType.contains("Helmet");
-            case "chestplate":
-                return armorType.contains("Chestplate");
-            case "leggings":
-                return armorType.contains("Leggings");
-            case "boots":
-                return armorType.contains("Boots");
+        ConfigManager config = CustomArmor.getInstance().getConfigManager();
+        PlaceholderContext context = new PlaceholderContext(config.getAccentColor())
+            .tier(result.getTier()).part(part.getId()).price(result.getPrice()).discount(result.getDiscount());
+        
+        String message;
+        switch (result.getStatus()) {
+            case PURCHASED:
+                message = config.getShopMessageTemplate("purchased").render(context);
+                break;
+            case UPGRADED:
+                message = config.getShopMessageTemplate("upgraded").render(context);
+                break;
+            case ALREADY_OWNED:
+                player.sendMessage(TextUtils.colorize(TextUtils.getPrefix() + " " + config.getShopMessage("already-owned")));
+                return;
+            case NOT_ENOUGH_ESSENCE:
+                message = config.getShopMessageTemplate(result.getPreviousTier() > 0 ? "need-essence-upgrade" : "need-essence")
+                    .render(context);
+                break;
+            case INVENTORY_FULL:
+                message = config.getShopMessageTemplate("inventory-full").render(context);
+                break;
             default:
-                return false;
+                message = config.getShopMessageTemplate("purchase-failed").render(context);
+                break;
         }
+        // The rendered message carries per-player numbers, so only the prefix goes through the cache
+        player.sendMessage(TextUtils.getPrefix() + " " + TextUtils.colorizeDynamic(message));
+        
+        // Refresh GUI in place, once per tick however many purchases land in it
+        // A page change clicked earlier in the same tick wins over the purchase page
+        ClickGovernor governor = CustomArmor.getInstance().getClickGovernor();
+        governor.requestRender(player, governor.getTargetPage(player, tier));
     }
 }
@@ -0,0 +1,117 @@
+package me.macmoment.customarmor.listeners;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.InventoryTracker;
+import me.macmoment.customarmor.gui.ArmorBrowserHolder;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Keeps the per-player inventory index current
+ * Events that may move essence or armor only mark the player dirty; the material check keeps this O(1) per event
+ */
+public class InventoryTrackingListener implements Listener {
+
+    private InventoryTracker tracker() {
+        return CustomArmor.getInstance().getInventoryTracker();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        tracker().rescan(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        tracker().remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player)) return;
+        
+        Player player = (Player) event.getWhoClicked();
+        boolean involvesTracked = isTracked(event.getCurrentItem()) || isTracked(event.getCursor());
+        if (!involvesTracked && event.getHotbarButton() >= 0) {
+            // Number key swaps move the hotbar item, which is neither the clicked nor the cursor item
+            involvesTracked = isTracked(player.getInventory().getItem(event.getHotbarButton()));
+        }
+        if (!involvesTracked && event.getClick() == ClickType.SWAP_OFFHAND) {
+            involvesTracked = isTracked(player.getInventory().getItemInOffHand());
+        }
+        
+        if (involvesTracked) {
+            tracker().markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player && isTracked(event.getOldCursor())) {
+            tracker().markDirty((Player) event.getWhoClicked());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        // Crafting grids and the cursor are emptied back into the inventory on close; our own GUI moves nothing
+        if (event.getPlayer() instanceof Player && !(event.getInventory().getHolder(false) instanceof ArmorBrowserHolder)) {
+            tracker().markDirty((Player) event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player && isTracked(event.getItem().getItemStack())) {
+            tracker().markDirty((Player) event.getEntity());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        if (isTracked(event.getItemDrop().getItemStack())) {
+            tracker().markDirty(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        tracker().markDirty(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        tracker().markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        // Per-world inventory plugins swap the whole inventory here
+        tracker().markDirty(event.getPlayer());
+    }
+
+    /**
+     * Cheap pre-filter: only items of a tracked material (essence or armor pieces) can change the index
+     */
+    private static boolean isTracked(ItemStack item) {
+        if (item == null) return false;
+        Material type = item.getType();
+        return type == Material.NETHER_STAR || ArmorPart.fromMaterial(type) != null;
+    }
+}
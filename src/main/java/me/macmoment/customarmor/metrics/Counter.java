@@ -0,0 +1,45 @@
+package me.macmoment.customarmor.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A named event counter; counts nothing while metrics are disabled
+ */
+public final class Counter {
+    private final String name;
+    private final String description;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    public void increment() {
+        if (Metrics.isEnabled()) {
+            value.increment();
+        }
+    }
+
+    public void add(long amount) {
+        if (Metrics.isEnabled()) {
+            value.add(amount);
+        }
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    void reset() {
+        value.reset();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,167 @@
+package me.macmoment.customarmor.metrics;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.shop.PurchaseResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plugin-wide performance metrics: latency timers around the hot paths and event counters
+ * <p>
+ * Switched on and off by {@code metrics.enabled}. While disabled, {@link #start()} skips the clock read and
+ * every timer and counter returns after one volatile read, so instrumented code costs next to nothing.
+ * onEnable phase timings are always kept, since they are recorded once.
+ * </p>
+ */
+public final class Metrics {
+    private static final List<Timer> TIMERS = new ArrayList<>();
+    private static final List<Counter> COUNTERS = new ArrayList<>();
+
+    // ==================== Timers ====================
+
+    public static final Timer GUI_OPEN = timer("gui_open", "Armor browser opens and page renders");
+    public static final Timer PURCHASE = timer("purchase", "Armor browser purchase clicks, including messaging");
+    public static final Timer TEXT_PARSE = timer("text_parse", "Text parses that missed the cache");
+    public static final Timer ESSENCE_SCAN = timer("essence_scan", "Full inventory scans for essence and armor");
+    public static final Timer CONFIG_RELOAD = timer("config_reload", "Configuration and registry reloads");
+
+    // ==================== Counters ====================
+
+    private static final Counter[] PURCHASE_RESULTS = new Counter[PurchaseResult.Status.values().length];
+    public static final Counter ESSENCE_DEBITED = counter("essence_debited", "Essence taken by purchases");
+
+    static {
+        for (PurchaseResult.Status status : PurchaseResult.Status.values()) {
+            String name = "purchases_" + status.name().toLowerCase();
+            PURCHASE_RESULTS[status.ordinal()] = counter(name, "Purchase attempts ending in " + status.name());
+        }
+    }
+
+    // Successful purchases by tier, then part ordinal
+    private static final Map<Integer, LongAdder[]> PIECES_BOUGHT = new ConcurrentHashMap<>();
+
+    private static final Map<String, Long> ENABLE_PHASES = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private static volatile boolean enabled;
+    private static volatile long resetAt = System.nanoTime();
+
+    private Metrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    /**
+     * Starts timing a code path; pass the result to {@link Timer#stop(long)}
+     *
+     * @return the current time, or 0 while metrics are disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Counts a purchase attempt by outcome, and the essence it took
+     */
+    public static void recordPurchase(PurchaseResult result) {
+        if (!enabled) return;
+        PURCHASE_RESULTS[result.getStatus().ordinal()].increment();
+        if (result.isSuccess()) {
+            ESSENCE_DEBITED.add(result.getPrice());
+            PIECES_BOUGHT.computeIfAbsent(result.getTier().getTier(), tier -> newPartCounters())
+                [result.getPart().ordinal()].increment();
+        }
+    }
+
+    /**
+     * Records how long one onEnable phase took
+     */
+    public static void recordEnablePhase(String phase, long nanos) {
+        ENABLE_PHASES.put(phase, nanos);
+    }
+
+    /**
+     * Clears every timer and counter and restarts the rate window; enable phases are kept
+     */
+    public static void reset() {
+        TIMERS.forEach(timer -> timer.getHistogram().reset());
+        COUNTERS.forEach(Counter::reset);
+        PIECES_BOUGHT.clear();
+        resetAt = System.nanoTime();
+    }
+
+    /**
+     * @return seconds since the last reset (or plugin load), the window rates are computed over
+     */
+    public static double getWindowSeconds() {
+        return (System.nanoTime() - resetAt) / 1_000_000_000.0;
+    }
+
+    public static List<Timer> getTimers() {
+        return Collections.unmodifiableList(TIMERS);
+    }
+
+    public static List<Counter> getCounters() {
+        return Collections.unmodifiableList(COUNTERS);
+    }
+
+    public static Counter getPurchaseCounter(PurchaseResult.Status status) {
+        return PURCHASE_RESULTS[status.ordinal()];
+    }
+
+    /**
+     * @return successful purchases and upgrades by tier, each an array indexed by ArmorPart ordinal
+     */
+    public static Map<Integer, long[]> getPiecesBought() {
+        Map<Integer, long[]> result = new TreeMap<>();
+        PIECES_BOUGHT.forEach((tier, counters) -> {
+            long[] values = new long[counters.length];
+            for (int i = 0; i < counters.length; i++) {
+                values[i] = counters[i].sum();
+            }
+            result.put(tier, values);
+        });
+        return result;
+    }
+
+    /**
+     * @return onEnable phase durations in nanoseconds, in the order they ran
+     */
+    public static Map<String, Long> getEnablePhases() {
+        synchronized (ENABLE_PHASES) {
+            return new LinkedHashMap<>(ENABLE_PHASES);
+        }
+    }
+
+    private static LongAdder[] newPartCounters() {
+        LongAdder[] counters = new LongAdder[ArmorPart.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static Timer timer(String name, String description) {
+        Timer timer = new Timer(name, description);
+        TIMERS.add(timer);
+        return timer;
+    }
+
+    private static Counter counter(String name, String description) {
+        Counter counter = new Counter(name, description);
+        COUNTERS.add(counter);
+        return counter;
+    }
+}
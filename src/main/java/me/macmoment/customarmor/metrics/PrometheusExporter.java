@@ -0,0 +1,184 @@
+package me.macmoment.customarmor.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.gui.ClickGovernor;
+import me.macmoment.customarmor.utils.TextCache;
+import me.macmoment.customarmor.utils.TextUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Serves the plugin's metrics at {@code /metrics} in the Prometheus text format
+ * <p>
+ * Optional, configured under {@code metrics.http}. The server runs on its own single daemon thread and
+ * only reads LongAdders and atomics, so a scrape never touches the main thread or any Bukkit state.
+ * </p>
+ */
+public class PrometheusExporter {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final Logger logger;
+    private HttpServer server;
+    private ExecutorService executor;
+    private ConfigSnapshot.Metrics settings;
+
+    public PrometheusExporter(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Starts, stops or rebinds the endpoint to match the settings; does nothing if they did not change
+     */
+    public synchronized void apply(ConfigSnapshot.Metrics newSettings) {
+        if (server != null && newSettings.equals(settings)) return;
+
+        stop();
+        settings = newSettings;
+        if (!newSettings.httpEnabled()) return;
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(newSettings.httpHost(), newSettings.httpPort()), 0);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not start the metrics endpoint on " + newSettings.httpHost() + ":"
+                + newSettings.httpPort() + ": " + e.getMessage());
+            server = null;
+            return;
+        }
+
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CustomArmor-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/metrics", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Serving metrics at http://" + newSettings.httpHost() + ":" + newSettings.httpPort() + "/metrics");
+    }
+
+    /**
+     * @return the port the endpoint is bound to (useful when configured with port 0), or -1 if it is not running
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format
+     */
+    String render() {
+        StringBuilder out = new StringBuilder(4096);
+
+        gauge(out, "customarmor_metrics_enabled", "Whether timers and counters are recording", Metrics.isEnabled() ? 1 : 0);
+
+        for (Timer timer : Metrics.getTimers()) {
+            LatencyHistogram histogram = timer.getHistogram();
+            String name = "customarmor_" + timer.getName() + "_seconds";
+            header(out, name, timer.getDescription(), "summary");
+            for (double quantile : QUANTILES) {
+                out.append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                    .append(seconds(histogram.getPercentile(quantile))).append('\n');
+            }
+            out.append(name).append("_sum ").append(seconds(histogram.getSum())).append('\n');
+            out.append(name).append("_count ").append(histogram.getCount()).append('\n');
+            gauge(out, "customarmor_" + timer.getName() + "_max_seconds", "Slowest " + timer.getDescription().toLowerCase(Locale.ROOT),
+                seconds(histogram.getMax()));
+        }
+
+        for (Counter counter : Metrics.getCounters()) {
+            counter(out, "customarmor_" + counter.getName() + "_total", counter.getDescription(), counter.get());
+        }
+
+        String bought = "customarmor_pieces_bought_total";
+        header(out, bought, "Pieces bought or upgraded, by tier and part", "counter");
+        for (Map.Entry<Integer, long[]> entry : Metrics.getPiecesBought().entrySet()) {
+            for (ArmorPart part : ArmorPart.values()) {
+                out.append(bought).append("{tier=\"").append(entry.getKey()).append("\",part=\"").append(part.getId())
+                    .append("\"} ").append(entry.getValue()[part.ordinal()]).append('\n');
+            }
+        }
+
+        String hitRatio = "customarmor_text_cache_hit_ratio";
+        header(out, hitRatio, "Share of text lookups served from cache", "gauge");
+        cacheSample(out, hitRatio, "legacy", TextUtils.getLegacyCache());
+        cacheSample(out, hitRatio, "component", TextUtils.getComponentCache());
+
+        CustomArmor plugin = CustomArmor.getInstance();
+        ClickGovernor governor = plugin != null ? plugin.getClickGovernor() : null;
+        if (governor != null) {
+            counter(out, "customarmor_clicks_duplicate_total", "Browser clicks dropped as same-tick repeats", governor.getDuplicateClicks());
+            counter(out, "customarmor_clicks_rate_limited_total", "Purchases refused by the click limit", governor.getRejectedPurchases());
+            counter(out, "customarmor_renders_coalesced_total", "Browser renders folded into one", governor.getCoalescedRenders());
+        }
+
+        return out.toString();
+    }
+
+    private static void cacheSample(StringBuilder out, String name, String cache, TextCache<?> textCache) {
+        out.append(name).append("{cache=\"").append(cache).append("\"} ").append(textCache.getHitRate()).append('\n');
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, double value) {
+        header(out, name, help, "gauge");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
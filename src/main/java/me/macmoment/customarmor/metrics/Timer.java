@@ -0,0 +1,51 @@
+package me.macmoment.customarmor.metrics;
+
+/**
+ * A named latency histogram for one code path
+ * <pre>
+ * long start = Metrics.start();
+ * ...
+ * Metrics.GUI_OPEN.stop(start);
+ * </pre>
+ * When metrics are disabled {@link Metrics#start()} returns 0 and {@link #stop} does nothing
+ */
+public final class Timer {
+    private final String name;
+    private final String description;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    Timer(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * Records the time since a {@link Metrics#start()} call
+     */
+    public void stop(long start) {
+        if (start != 0L) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a duration measured elsewhere
+     */
+    public void record(long nanos) {
+        if (Metrics.isEnabled()) {
+            histogram.record(nanos);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+}
@@ -0,0 +1,202 @@
+package me.macmoment.customarmor.shop;
+
+import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorPieceInfo;
+import me.macmoment.customarmor.data.ArmorRegistry;
+import me.macmoment.customarmor.data.ArmorTier;
+import me.macmoment.customarmor.data.InventoryIndex;
+import me.macmoment.customarmor.events.ArmorPurchaseEvent;
+import me.macmoment.customarmor.events.ArmorTransactionEvent;
+import me.macmoment.customarmor.events.ArmorUpgradeEvent;
+import me.macmoment.customarmor.events.EssenceBalanceChangeEvent;
+import me.macmoment.customarmor.utils.ArmorUtils;
+import me.macmoment.customarmor.utils.EssenceUtils;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+/**
+ * Buys and upgrades armor pieces as one transaction
+ * <p>
+ * Ownership, the discount and affordability are first checked against the player's cached
+ * {@link InventoryIndex}, so refused clicks never read the inventory. A purchase that goes ahead then reads
+ * the inventory once and plans every write up front: which essence stacks to debit,
+ * which slot holds the piece being upgraded and where the new piece goes. Nothing is written unless the
+ * whole plan fits, so a player is never charged for a piece they cannot receive. The planned slots are then
+ * written one by one, and if delivery cannot be confirmed every touched slot is restored.
+ * </p>
+ */
+public final class PurchaseEngine {
+    // New pieces go into the main inventory, like addItem would
+    private static final int STORAGE_SLOTS = 36;
+
+    private PurchaseEngine() {
+    }
+
+    /**
+     * Buys the given tier of a part, upgrading the owned piece in place if there is one
+     * Must be called on the main thread
+     */
+    public static PurchaseResult purchase(Player player, int tier, ArmorPart part) {
+        CustomArmor plugin = CustomArmor.getInstance();
+        ConfigManager config = plugin.getConfigManager();
+        ArmorRegistry registry = plugin.getArmorRegistry();
+
+        ArmorTier armorTier = registry.getTier(tier);
+        ItemStack prototype = registry.getArmorPiece(tier, part);
+        if (armorTier == null || prototype == null) {
+            return new PurchaseResult(PurchaseResult.Status.UNKNOWN_TIER, null, part, 0, 0, 0);
+        }
+
+        // ==================== Check ====================
+
+        // Refusals (the autoclicker case) are answered from the cached index without reading the inventory
+        InventoryIndex index = plugin.getInventoryTracker().get(player);
+        boolean upgrade = index.owns(part);
+        int ownedTier = index.getOwnedTier(part);
+        int price = armorTier.getPrice();
+        int discount = 0;
+
+        if (upgrade) {
+            if (tier <= ownedTier) {
+                return new PurchaseResult(PurchaseResult.Status.ALREADY_OWNED, armorTier, part, price, 0, ownedTier);
+            }
+            // Upgrade mode - the owned tier earns a discount
+            discount = ownedTier * config.getDiscountPerTier();
+            price = Math.max(config.getMinimumPrice(), price - discount);
+        }
+
+        // Other plugins may cancel or reprice; the event is only built when someone listens.
+        // Fired before the inventory is read, so anything a listener changes is part of the plan below
+        ArmorTransactionEvent event = null;
+        if (upgrade && ArmorUpgradeEvent.hasListeners()) {
+            event = new ArmorUpgradeEvent(player, armorTier, part, price, discount, ownedTier);
+        } else if (!upgrade && ArmorPurchaseEvent.hasListeners()) {
+            event = new ArmorPurchaseEvent(player, armorTier, part, price);
+        }
+        if (event != null) {
+            plugin.getServer().getPluginManager().callEvent(event);
+            if (event.isCancelled()) {
+                return new PurchaseResult(PurchaseResult.Status.CANCELLED, armorTier, part, price, discount, ownedTier);
+            }
+            price = event.getPrice();
+        }
+
+        // A listener may have handed out essence the index can't know about; with an event the scan below decides
+        if (event == null && index.getEssence() < price) {
+            return new PurchaseResult(PurchaseResult.Status.NOT_ENOUGH_ESSENCE, armorTier, part, price, discount, ownedTier);
+        }
+
+        // ==================== Plan ====================
+
+        // The purchase is going ahead: read the inventory once to plan the writes
+        PlayerInventory inventory = player.getInventory();
+        ItemStack[] contents = inventory.getContents();
+
+        int essence = 0;
+        int[] essenceSlots = new int[contents.length];
+        int essenceSlotCount = 0;
+        int[] ownedTiers = new int[ArmorPart.values().length];
+        int[] ownedSlots = InventoryIndex.emptySlots();
+        int emptySlot = -1;
+
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            if (item == null || item.getType().isAir()) {
+                if (emptySlot < 0 && slot < STORAGE_SLOTS) emptySlot = slot;
+                continue;
+            }
+
+            if (EssenceUtils.isEssence(item)) {
+                essence += item.getAmount();
+                essenceSlots[essenceSlotCount++] = slot;
+                continue;
+            }
+
+            // Same rule as the inventory index: worn pieces win over carried ones
+            ArmorPieceInfo info = ArmorUtils.decode(item);
+            if (!info.isArmor()) continue;
+            int owned = info.getPart().ordinal();
+            if (ownedSlots[owned] < 0 || (InventoryIndex.isArmorSlot(slot) && !InventoryIndex.isArmorSlot(ownedSlots[owned]))) {
+                ownedSlots[owned] = slot;
+                ownedTiers[owned] = info.getTier();
+            }
+        }
+
+        // A listener may have moved essence or armor; the scan is the truth, and fresher than the index
+        int ownedSlot = ownedSlots[part.ordinal()];
+        if (ownedSlot >= 0 && tier <= ownedTiers[part.ordinal()]) {
+            plugin.getInventoryTracker().update(player, new InventoryIndex(essence, ownedTiers, ownedSlots));
+            return new PurchaseResult(PurchaseResult.Status.ALREADY_OWNED, armorTier, part, price, 0, ownedTiers[part.ordinal()]);
+        }
+        if (essence < price) {
+            plugin.getInventoryTracker().update(player, new InventoryIndex(essence, ownedTiers, ownedSlots));
+            return new PurchaseResult(PurchaseResult.Status.NOT_ENOUGH_ESSENCE, armorTier, part, price, discount, ownedTier);
+        }
+
+        // Planned contents of every slot the transaction writes
+        ItemStack[] planned = new ItemStack[contents.length];
+        boolean[] touched = new boolean[contents.length];
+        int freedSlot = -1;
+        int remaining = price;
+
+        for (int i = 0; i < essenceSlotCount && remaining > 0; i++) {
+            int slot = essenceSlots[i];
+            ItemStack stack = contents[slot];
+            int take = Math.min(stack.getAmount(), remaining);
+            remaining -= take;
+
+            touched[slot] = true;
+            if (take == stack.getAmount()) {
+                planned[slot] = null;
+                if (freedSlot < 0 && slot < STORAGE_SLOTS) freedSlot = slot;
+            } else {
+                ItemStack left = stack.clone();
+                left.setAmount(stack.getAmount() - take);
+                planned[slot] = left;
+            }
+        }
+
+        // Upgrades replace the old piece where it is (worn stays worn); new pieces need a free slot
+        int targetSlot = ownedSlot >= 0 ? ownedSlot : emptySlot >= 0 ? emptySlot : freedSlot;
+        if (targetSlot < 0) {
+            return new PurchaseResult(PurchaseResult.Status.INVENTORY_FULL, armorTier, part, price, discount, ownedTier);
+        }
+
+        ItemStack piece = prototype.clone();
+        planned[targetSlot] = piece;
+        touched[targetSlot] = true;
+
+        // ==================== Apply ====================
+
+        try {
+            for (int slot = 0; slot < contents.length; slot++) {
+                if (touched[slot]) inventory.setItem(slot, planned[slot]);
+            }
+
+            ItemStack delivered = inventory.getItem(targetSlot);
+            if (delivered == null || !delivered.isSimilar(piece)) {
+                throw new IllegalStateException("piece did not arrive in slot " + targetSlot);
+            }
+        } catch (RuntimeException e) {
+            for (int slot = 0; slot < contents.length; slot++) {
+                if (touched[slot]) inventory.setItem(slot, contents[slot]);
+            }
+            plugin.getLogger().warning("Rolled back purchase of tier " + tier + " " + part.getId()
+                + " for " + player.getName() + ": " + e.getMessage());
+            plugin.getInventoryTracker().markDirty(player);
+            return new PurchaseResult(PurchaseResult.Status.DELIVERY_FAILED, armorTier, part, price, discount, ownedTier);
+        }
+
+        // The plan already describes the new inventory, so publish it instead of rescanning
+        ownedSlots[part.ordinal()] = targetSlot;
+        ownedTiers[part.ordinal()] = tier;
+        plugin.getInventoryTracker().update(player, new InventoryIndex(essence - price, ownedTiers, ownedSlots));
+        EssenceBalanceChangeEvent.fire(player, EssenceBalanceChangeEvent.Cause.PURCHASE, -price);
+
+        PurchaseResult.Status status = ownedSlot >= 0 ? PurchaseResult.Status.UPGRADED : PurchaseResult.Status.PURCHASED;
+        return new PurchaseResult(status, armorTier, part, price, discount, ownedTier);
+    }
+}
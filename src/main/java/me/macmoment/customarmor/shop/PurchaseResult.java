@@ -0,0 +1,93 @@
+package me.macmoment.customarmor.shop;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorTier;
+
+/**
+ * Outcome of one purchase attempt, as returned by {@link PurchaseEngine}
+ * Carries everything needed to message the player and record metrics
+ */
+public final class PurchaseResult {
+
+    public enum Status {
+        /** A new piece was bought */
+        PURCHASED(true),
+        /** An owned piece was replaced with a higher tier */
+        UPGRADED(true),
+        /** The player already owns this tier or higher */
+        ALREADY_OWNED(false),
+        /** The player cannot afford the price */
+        NOT_ENOUGH_ESSENCE(false),
+        /** There is nowhere to put the new piece; nothing was taken */
+        INVENTORY_FULL(false),
+        /** Writing the inventory failed and every slot was restored */
+        DELIVERY_FAILED(false),
+        /** The tier does not exist (e.g. removed by a reload) */
+        UNKNOWN_TIER(false),
+        /** Another plugin cancelled the purchase or upgrade event; nothing was taken */
+        CANCELLED(false);
+
+        private final boolean success;
+
+        Status(boolean success) {
+            this.success = success;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+    }
+
+    private final Status status;
+    private final ArmorTier tier;
+    private final ArmorPart part;
+    private final int price;
+    private final int discount;
+    private final int previousTier;
+
+    PurchaseResult(Status status, ArmorTier tier, ArmorPart part, int price, int discount, int previousTier) {
+        this.status = status;
+        this.tier = tier;
+        this.part = part;
+        this.price = price;
+        this.discount = discount;
+        this.previousTier = previousTier;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return status.isSuccess();
+    }
+
+    /**
+     * @return the tier being bought, or null for {@link Status#UNKNOWN_TIER}
+     */
+    public ArmorTier getTier() {
+        return tier;
+    }
+
+    public ArmorPart getPart() {
+        return part;
+    }
+
+    /**
+     * @return the price after any upgrade discount; charged only on success
+     */
+    public int getPrice() {
+        return price;
+    }
+
+    public int getDiscount() {
+        return discount;
+    }
+
+    /**
+     * @return the tier of the piece the player owned before, or 0 if none
+     */
+    public int getPreviousTier() {
+        return previousTier;
+    }
+}
@@ -1,15 +1,22 @@
 package me.macmoment.customarmor.utils;
 
-import com.destroystokyo.paper.profile.PlayerProfile;
-import com.destroystokyo.paper.profile.ProfileProperty;
 import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.config.AttributeBonus;
 import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.config.ConfigSnapshot;
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorPieceInfo;
 import me.macmoment.customarmor.data.ArmorTier;
+import me.macmoment.customarmor.data.PlayerArmorState;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlotGroup;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.LeatherArmorMeta;
 import org.bukkit.inventory.meta.SkullMeta;
@@ -18,7 +25,7 @@ import org.bukkit.NamespacedKey;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 /**
  * Utility class for armor-related operations
@@ -29,61 +36,71 @@ public class ArmorUtils {
     private static final NamespacedKey ARMOR_PIECE_KEY = new NamespacedKey(CustomArmor.getInstance(), "armorpiece");
     private static final NamespacedKey TIER_KEY = new NamespacedKey(CustomArmor.getInstance(), "tier");
     private static final NamespacedKey MULTI_KEY = new NamespacedKey(CustomArmor.getInstance(), "multi");
+    private static final NamespacedKey PART_KEY = new NamespacedKey(CustomArmor.getInstance(), "part");
+    private static final NamespacedKey ATTRIBUTES_KEY = new NamespacedKey(CustomArmor.getInstance(), "attributes");
+
+    /** The part worn in each index of {@code PlayerInventory#getArmorContents()}. */
+    private static final ArmorPart[] ARMOR_SLOT_PARTS = {
+        ArmorPart.BOOTS, ArmorPart.LEGGINGS, ArmorPart.CHESTPLATE, ArmorPart.HEAD
+    };
 
     /**
      * Gives armor to a player
+     *
+     * @param part a part id ("head", "chestplate", "leggings", "boots") or "fullset"
      */
     public static void giveArmor(Player player, int tier, String part) {
-        ArmorTier armorTier = CustomArmor.getInstance().getArmorRegistry().getTier(tier);
-        if (armorTier == null) return;
+        if (part.equalsIgnoreCase("fullset")) {
+            for (ArmorPart armorPart : ArmorPart.values()) {
+                giveArmor(player, tier, armorPart);
+            }
+            return;
+        }
 
-        String[] parts = part.equalsIgnoreCase("fullset") 
-            ? new String[]{"head", "chestplate", "leggings", "boots"}
-            : new String[]{part};
+        ArmorPart armorPart = ArmorPart.fromId(part);
+        if (armorPart != null) {
+            giveArmor(player, tier, armorPart);
+        }
+    }
 
-        for (String armorPart : parts) {
-            ItemStack armor = createArmorPiece(armorTier, armorPart);
-            if (armor != null) {
-                player.getInventory().addItem(armor);
-            }
+    /**
+     * Gives a single armor piece to a player
+     * Clones the prototype the registry built for this tier and part
+     */
+    public static void giveArmor(Player player, int tier, ArmorPart part) {
+        ItemStack prototype = CustomArmor.getInstance().getArmorRegistry().getArmorPiece(tier, part);
+        if (prototype != null) {
+            player.getInventory().addItem(prototype.clone());
+            CustomArmor.getInstance().getInventoryTracker().markDirty(player);
         }
     }
 
     /**
      * Creates an armor piece item with name and lore from config
+     * Called by the registry to build the per-tier prototypes; use {@link #giveArmor} to hand out pieces
      */
-    private static ItemStack createArmorPiece(ArmorTier tier, String part) {
+    public static ItemStack createArmorPiece(ArmorTier tier, ArmorPart part, ConfigManager config) {
         ItemStack item;
         // Use "Helmet" for head pieces for consistency with GUI display and upgrade checks
-        String partName;
-        if (part.equalsIgnoreCase("head")) {
-            partName = "Helmet";
-        } else {
-            partName = part.substring(0, 1).toUpperCase() + part.substring(1);
-        }
-        ConfigManager config = CustomArmor.getInstance().getConfigManager();
+        String partName = part.getDisplayName();
 
-        switch (part.toLowerCase()) {
-            case "head":
-                item = new ItemStack(Material.PLAYER_HEAD);
+        switch (part) {
+            case HEAD:
+                // Textured head from the shared cache
+                item = HeadTextureCache.createHead(tier.getHeadTexture());
                 SkullMeta skullMeta = (SkullMeta) item.getItemMeta();
                 
-                // Set the texture
-                PlayerProfile profile = Bukkit.createProfile(UUID.randomUUID());
-                profile.setProperty(new ProfileProperty("textures", tier.getHeadTexture()));
-                skullMeta.setPlayerProfile(profile);
-                
                 // Set display name from config format
-                String skullDisplayName = config.getArmorPieceNameFormat()
-                    .replace("{hex_color}", tier.getHexColor())
-                    .replace("{tier_name}", tier.getName())
-                    .replace("{piece_name}", partName);
+                String skullDisplayName = config.getArmorPieceNameTemplate().render(
+                    new PlaceholderContext(config.getAccentColor()).tier(tier).pieceName(partName));
                 skullMeta.displayName(TextUtils.colorizeToComponent(skullDisplayName));
                 
                 // Set custom data
                 skullMeta.getPersistentDataContainer().set(ARMOR_PIECE_KEY, PersistentDataType.BYTE, (byte) 1);
                 skullMeta.getPersistentDataContainer().set(TIER_KEY, PersistentDataType.INTEGER, tier.getTier());
                 skullMeta.getPersistentDataContainer().set(MULTI_KEY, PersistentDataType.DOUBLE, tier.getMultiplier());
+                skullMeta.getPersistentDataContainer().set(PART_KEY, PersistentDataType.STRING, part.getId());
+                writeAttributes(skullMeta, part, tier.getMultiplier(), config.getSnapshot().tiers().get(tier.getTier()));
                 
                 // Set lore using Components - use simplified lore for actual armor items (not GUI display)
                 List<Component> skullLore = buildArmorItemLore(tier, config);
@@ -92,23 +109,11 @@ public class ArmorUtils {
                 item.setItemMeta(skullMeta);
                 break;
 
-            case "chestplate":
-                item = new ItemStack(Material.LEATHER_CHESTPLATE);
-                setLeatherArmorMeta(item, tier, partName, config);
-                break;
-
-            case "leggings":
-                item = new ItemStack(Material.LEATHER_LEGGINGS);
-                setLeatherArmorMeta(item, tier, partName, config);
-                break;
-
-            case "boots":
-                item = new ItemStack(Material.LEATHER_BOOTS);
-                setLeatherArmorMeta(item, tier, partName, config);
-                break;
-
             default:
-                return null;
+                // Chestplate, leggings and boots are dyed leather
+                item = new ItemStack(part.getMaterial());
+                setLeatherArmorMeta(item, tier, part, config);
+                break;
         }
 
         return item;
@@ -136,22 +141,22 @@ public class ArmorUtils {
     /**
      * Sets leather armor meta with color and custom data
      */
-    private static void setLeatherArmorMeta(ItemStack item, ArmorTier tier, String partName, ConfigManager config) {
+    private static void setLeatherArmorMeta(ItemStack item, ArmorTier tier, ArmorPart part, ConfigManager config) {
         LeatherArmorMeta meta = (LeatherArmorMeta) item.getItemMeta();
         
         meta.setColor(tier.getRgbColor());
         
         // Set display name from config format
-        String displayName = config.getArmorPieceNameFormat()
-            .replace("{hex_color}", tier.getHexColor())
-            .replace("{tier_name}", tier.getName())
-            .replace("{piece_name}", partName);
+        String displayName = config.getArmorPieceNameTemplate().render(
+            new PlaceholderContext(config.getAccentColor()).tier(tier).pieceName(part.getDisplayName()));
         meta.displayName(TextUtils.colorizeToComponent(displayName));
         
         // Set custom data
         meta.getPersistentDataContainer().set(ARMOR_PIECE_KEY, PersistentDataType.BYTE, (byte) 1);
         meta.getPersistentDataContainer().set(TIER_KEY, PersistentDataType.INTEGER, tier.getTier());
         meta.getPersistentDataContainer().set(MULTI_KEY, PersistentDataType.DOUBLE, tier.getMultiplier());
+        meta.getPersistentDataContainer().set(PART_KEY, PersistentDataType.STRING, part.getId());
+        writeAttributes(meta, part, tier.getMultiplier(), config.getSnapshot().tiers().get(tier.getTier()));
         
         // Set lore using Components
         List<Component> lore = buildArmorItemLore(tier, config);
@@ -160,55 +165,163 @@ public class ArmorUtils {
         item.setItemMeta(meta);
     }
 
+    // ==================== Attribute Modifiers ====================
+
     /**
-     * Gets total armor stats multiplier from equipped armor
+     * Replaces the piece's CustomArmor attribute modifiers with the ones its tier configures for the part,
+     * and stamps the item with their description
+     * Modifiers added by the server or other plugins are kept
+     *
+     * @param multiplier the multiplier stored on the piece, so its modifiers match its lore and effects
+     * @param settings the piece's tier, or null if the tier no longer exists (its modifiers are removed)
      */
-    public static double getArmorStats(Player player) {
-        double total = 0.0;
-        
-        for (ItemStack armor : player.getInventory().getArmorContents()) {
-            if (armor != null && armor.hasItemMeta()) {
-                ItemMeta meta = armor.getItemMeta();
-                if (meta.getPersistentDataContainer().has(MULTI_KEY, PersistentDataType.DOUBLE)) {
-                    total += meta.getPersistentDataContainer().get(MULTI_KEY, PersistentDataType.DOUBLE);
+    private static void writeAttributes(ItemMeta meta, ArmorPart part, double multiplier,
+                                        ConfigSnapshot.TierSettings settings) {
+        if (meta.hasAttributeModifiers()) {
+            for (Map.Entry<Attribute, AttributeModifier> entry : List.copyOf(meta.getAttributeModifiers().entries())) {
+                if (entry.getValue().getKey().getNamespace().equals(ATTRIBUTES_KEY.getNamespace())) {
+                    meta.removeAttributeModifier(entry.getKey(), entry.getValue());
                 }
             }
         }
-        
-        return total;
+
+        List<AttributeBonus> bonuses = settings != null ? settings.attributes(part) : List.of();
+        if (bonuses.isEmpty()) {
+            meta.getPersistentDataContainer().remove(ATTRIBUTES_KEY);
+            return;
+        }
+
+        if (!meta.hasAttributeModifiers()) {
+            // Any modifier replaces the material's built-in ones (e.g. leather armor points), so carry those over
+            part.getMaterial().getDefaultAttributeModifiers(part.getEquipmentSlot()).forEach(meta::addAttributeModifier);
+        }
+        EquipmentSlotGroup slotGroup = part.getEquipmentSlot().getGroup();
+        for (int i = 0; i < bonuses.size(); i++) {
+            AttributeBonus bonus = bonuses.get(i);
+            NamespacedKey key = new NamespacedKey(CustomArmor.getInstance(), "bonus_" + part.getId() + "_" + i);
+            meta.addAttributeModifier(bonus.attribute(),
+                new AttributeModifier(key, bonus.amount(multiplier), bonus.operation(), slotGroup));
+        }
+        meta.getPersistentDataContainer().set(ATTRIBUTES_KEY, PersistentDataType.STRING, settings.attributeStamp(part));
+    }
+
+    /**
+     * Rewrites worn pieces whose attribute modifiers were built from a different config
+     * Pieces are brought up to date as they are worn, so stored items never need a full sweep; pieces in
+     * chests or inventories keep their old modifiers until then. Main thread only
+     *
+     * @return true if any piece was rewritten
+     */
+    public static boolean refreshWornAttributes(Player player, ConfigSnapshot snapshot) {
+        PlayerInventory inventory = player.getInventory();
+        boolean rewritten = false;
+        for (ArmorPart part : ArmorPart.values()) {
+            ItemStack item = inventory.getItem(part.getEquipmentSlot());
+            ArmorPieceInfo info = decode(item);
+            if (!info.isArmor() || info.getPart() != part) continue;
+
+            ConfigSnapshot.TierSettings settings = snapshot.tiers().get(info.getTier());
+            String expected = settings != null ? settings.attributeStamp(part) : "";
+            String actual = item.getPersistentDataContainer().getOrDefault(ATTRIBUTES_KEY, PersistentDataType.STRING, "");
+            if (expected.equals(actual)) continue;
+
+            ItemStack updated = item.clone();
+            updated.editMeta(meta -> writeAttributes(meta, part, info.getMultiplier(), settings));
+            inventory.setItem(part.getEquipmentSlot(), updated);
+            rewritten = true;
+        }
+        return rewritten;
+    }
+
+    /**
+     * Gets total armor stats multiplier from equipped armor
+     * Served from the cached armor state, which is refreshed on equipment changes
+     */
+    public static double getArmorStats(Player player) {
+        return getArmorState(player).getTotalMultiplier();
     }
 
     /**
      * Gets the number of custom armor pieces equipped
      */
     public static int getArmorAmount(Player player) {
+        return getArmorState(player).getPieceCount();
+    }
+
+    /**
+     * Gets the cached summary of the player's equipped custom armor
+     */
+    public static PlayerArmorState getArmorState(Player player) {
+        return CustomArmor.getInstance().getArmorStateCache().get(player);
+    }
+
+    /**
+     * Computes the player's armor state by decoding each equipped piece once
+     * Used to refresh the cache; prefer {@link #getArmorState(Player)}
+     */
+    public static PlayerArmorState computeArmorState(Player player) {
+        double total = 0.0;
         int count = 0;
+        int[] slotTiers = new int[ArmorPart.values().length];
+        double[] pieceMultipliers = new double[ArmorPart.values().length];
         
-        for (ItemStack armor : player.getInventory().getArmorContents()) {
-            if (armor != null && armor.hasItemMeta()) {
-                ItemMeta meta = armor.getItemMeta();
-                if (meta.getPersistentDataContainer().has(ARMOR_PIECE_KEY, PersistentDataType.BYTE)) {
-                    count++;
-                }
-            }
+        // getArmorContents is ordered boots, leggings, chestplate, helmet
+        ItemStack[] armorContents = player.getInventory().getArmorContents();
+        for (int i = 0; i < armorContents.length; i++) {
+            ArmorPieceInfo info = decode(armorContents[i]);
+            if (!info.isArmor()) continue;
+            
+            total += info.getMultiplier();
+            count++;
+            slotTiers[ARMOR_SLOT_PARTS[i].ordinal()] = info.getTier();
+            pieceMultipliers[ARMOR_SLOT_PARTS[i].ordinal()] = info.getMultiplier();
+        }
+        
+        // Stacked once here, so effect listeners only read a factor
+        double[] effectFactors = CustomArmor.getInstance().getConfigManager().getSnapshot().effects()
+            .factors(pieceMultipliers);
+        return new PlayerArmorState(total, count, slotTiers, effectFactors);
+    }
+
+    /**
+     * Reads everything CustomArmor stores on an item in one go
+     * Items of other materials are rejected without touching their data
+     *
+     * @return the piece's description, or {@link ArmorPieceInfo#NOT_ARMOR} if the item is not custom armor
+     */
+    public static ArmorPieceInfo decode(ItemStack item) {
+        if (item == null) return ArmorPieceInfo.NOT_ARMOR;
+        
+        ArmorPart part = ArmorPart.fromMaterial(item.getType());
+        if (part == null || !item.hasItemMeta()) return ArmorPieceInfo.NOT_ARMOR;
+        
+        // Read-only view of the item's data, no meta copy
+        PersistentDataContainerView data = item.getPersistentDataContainer();
+        if (!data.has(ARMOR_PIECE_KEY, PersistentDataType.BYTE)) return ArmorPieceInfo.NOT_ARMOR;
+        
+        // Pieces issued before the part was stored fall back to the part implied by the material
+        ArmorPart taggedPart = ArmorPart.fromId(data.get(PART_KEY, PersistentDataType.STRING));
+        if (taggedPart != null) {
+            part = taggedPart;
         }
         
-        return count;
+        return ArmorPieceInfo.of(
+            data.getOrDefault(TIER_KEY, PersistentDataType.INTEGER, 0),
+            part,
+            data.getOrDefault(MULTI_KEY, PersistentDataType.DOUBLE, 0.0));
     }
 
     /**
      * Checks if an item is a custom armor piece
      */
     public static boolean isArmorPiece(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return false;
-        return item.getItemMeta().getPersistentDataContainer().has(ARMOR_PIECE_KEY, PersistentDataType.BYTE);
+        return decode(item).isArmor();
     }
 
     /**
      * Gets the tier of a custom armor piece
      */
     public static int getArmorTier(ItemStack item) {
-        if (!isArmorPiece(item)) return 0;
-        return item.getItemMeta().getPersistentDataContainer().getOrDefault(TIER_KEY, PersistentDataType.INTEGER, 0);
+        return decode(item).getTier();
     }
 }
@@ -2,6 +2,7 @@ package me.macmoment.customarmor.utils;
 
 import me.macmoment.customarmor.CustomArmor;
 import me.macmoment.customarmor.config.ConfigManager;
+import me.macmoment.customarmor.events.EssenceBalanceChangeEvent;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -12,6 +13,7 @@ import org.bukkit.NamespacedKey;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class for Armor Essence operations
@@ -36,13 +38,11 @@ public class EssenceUtils {
         meta.displayName(TextUtils.colorizeToComponent(essenceName));
         
         // Set lore from config using Components with italic disabled
-        List<String> configLore = config.getEssenceLore();
         List<Component> lore = new ArrayList<>();
-        String accentColor = config.getAccentColor();
+        PlaceholderContext context = new PlaceholderContext(config.getAccentColor());
         
-        for (String line : configLore) {
-            String processedLine = line.replace("{accent}", accentColor);
-            lore.add(TextUtils.colorizeToComponent(processedLine));
+        for (PlaceholderTemplate template : config.getEssenceLoreTemplates()) {
+            lore.add(TextUtils.colorizeToComponent(template.render(context)));
         }
         meta.lore(lore);
         
@@ -50,54 +50,31 @@ public class EssenceUtils {
         meta.getPersistentDataContainer().set(ESSENCE_KEY, PersistentDataType.BYTE, (byte) 1);
         
         essence.setItemMeta(meta);
-        player.getInventory().addItem(essence);
-    }
-
-    /**
-     * Gets the total amount of essence a player has
-     */
-    public static int getPlayerEssence(Player player) {
-        int total = 0;
+        Map<Integer, ItemStack> leftover = player.getInventory().addItem(essence);
         
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (isEssence(item)) {
-                total += item.getAmount();
-            }
+        int notAdded = 0;
+        for (ItemStack item : leftover.values()) {
+            notAdded += item.getAmount();
         }
-        
-        return total;
+        CustomArmor.getInstance().getInventoryTracker().adjustEssence(player, amount - notAdded);
+        EssenceBalanceChangeEvent.fire(player, EssenceBalanceChangeEvent.Cause.GIVE, amount - notAdded);
     }
 
     /**
-     * Removes essence from a player's inventory
+     * Gets the total amount of essence a player has
+     * Served from the player's cached inventory index; only rescans when the index is dirty
      */
-    public static void removeEssence(Player player, int amount) {
-        int toRemove = amount;
-        
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.NETHER_STAR && isEssence(item)) {
-                int itemAmount = item.getAmount();
-                
-                if (itemAmount <= toRemove) {
-                    player.getInventory().remove(item);
-                    toRemove -= itemAmount;
-                } else {
-                    item.setAmount(itemAmount - toRemove);
-                    toRemove = 0;
-                }
-                
-                if (toRemove <= 0) {
-                    break;
-                }
-            }
-        }
+    public static int getPlayerEssence(Player player) {
+        return CustomArmor.getInstance().getInventoryTracker().getEssence(player);
     }
 
     /**
      * Checks if an item is armor essence
      */
     public static boolean isEssence(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return false;
-        return item.getItemMeta().getPersistentDataContainer().has(ESSENCE_KEY, PersistentDataType.BYTE);
+        // Check the material first so non-essence items never have their data read
+        if (item == null || item.getType() != Material.NETHER_STAR || !item.hasItemMeta()) return false;
+        // Read-only view of the item's data, no meta copy
+        return item.getPersistentDataContainer().has(ESSENCE_KEY, PersistentDataType.BYTE);
     }
 }
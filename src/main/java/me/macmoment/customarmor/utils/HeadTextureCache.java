@@ -0,0 +1,106 @@
+package me.macmoment.customarmor.utils;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import me.macmoment.customarmor.CustomArmor;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one textured player head per distinct head texture
+ * <p>
+ * Each texture is decoded and validated once, and gets a profile with a UUID derived from the texture
+ * value, so identical textures produce identical (stackable, client-cacheable) heads.
+ * Creating a head is a clone of the cached prototype.
+ * </p>
+ */
+public class HeadTextureCache {
+
+    /** Prototype heads keyed by base64 texture value. */
+    private static final Map<String, ItemStack> HEADS = new ConcurrentHashMap<>();
+
+    /**
+     * Decodes and caches the given textures, typically every configured tier texture
+     */
+    public static void preload(Collection<String> textures) {
+        for (String texture : textures) {
+            getPrototype(texture);
+        }
+    }
+
+    /**
+     * Creates a player head with the given texture
+     * Invalid or empty textures produce a plain player head
+     */
+    public static ItemStack createHead(String texture) {
+        return getPrototype(texture).clone();
+    }
+
+    /**
+     * Drops all cached heads, e.g. before textures are reloaded
+     */
+    public static void clear() {
+        HEADS.clear();
+    }
+
+    /**
+     * Drops cached heads for textures that are no longer configured
+     */
+    public static void retainOnly(Collection<String> textures) {
+        HEADS.keySet().retainAll(new HashSet<>(textures));
+    }
+
+    /**
+     * @return the number of distinct textures cached
+     */
+    public static int size() {
+        return HEADS.size();
+    }
+
+    private static ItemStack getPrototype(String texture) {
+        String key = texture == null ? "" : texture;
+        return HEADS.computeIfAbsent(key, HeadTextureCache::buildHead);
+    }
+
+    private static ItemStack buildHead(String texture) {
+        ItemStack head = new ItemStack(Material.PLAYER_HEAD);
+        if (texture.isEmpty()) {
+            return head;
+        }
+        if (!isValidTexture(texture)) {
+            CustomArmor.getInstance().getLogger().warning("Ignoring invalid head texture (not base64 texture JSON): " + texture);
+            return head;
+        }
+
+        SkullMeta meta = (SkullMeta) head.getItemMeta();
+        // Same texture -> same UUID, so the client can cache the skin and identical heads stack
+        UUID profileId = UUID.nameUUIDFromBytes(texture.getBytes(StandardCharsets.UTF_8));
+        PlayerProfile profile = Bukkit.createProfile(profileId);
+        profile.setProperty(new ProfileProperty("textures", texture));
+        meta.setPlayerProfile(profile);
+        head.setItemMeta(meta);
+        return head;
+    }
+
+    /**
+     * Checks that the value is base64 for a texture JSON object
+     */
+    private static boolean isValidTexture(String texture) {
+        try {
+            String json = new String(Base64.getDecoder().decode(texture), StandardCharsets.UTF_8);
+            return json.contains("\"textures\"");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package me.macmoment.customarmor.utils;
+
+import me.macmoment.customarmor.data.ArmorPart;
+import me.macmoment.customarmor.data.ArmorTier;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * All placeholders supported in config.yml text
+ * Each placeholder resolves its value from a {@link PlaceholderContext}, or null if the context does not carry it
+ */
+public enum Placeholder {
+    ACCENT("accent", PlaceholderContext::getAccent),
+    HEX_COLOR("hex_color", ctx -> ctx.getTier() == null ? null : ctx.getTier().getHexColor()),
+    TIER_NAME("tier_name", ctx -> ctx.getTier() == null ? null : ctx.getTier().getName()),
+    TIER("tier", ctx -> ctx.getTier() == null ? null : String.valueOf(ctx.getTier().getTier())),
+    MAX_TIER("max_tier", ctx -> ctx.getMaxTier() == null ? null : String.valueOf(ctx.getMaxTier())),
+    MULTIPLIER("multiplier", Placeholder::resolveMultiplier),
+    FULL_SET_BONUS("full_set_bonus", ctx -> ctx.getTier() == null ? null
+        : String.format("%.2f", ctx.getTier().getMultiplier() * ArmorPart.values().length)),
+    PRICE("price", Placeholder::resolvePrice),
+    DISCOUNT("discount", ctx -> ctx.getDiscount() == null ? null : String.valueOf(ctx.getDiscount())),
+    PIECE_NAME("piece_name", PlaceholderContext::getPieceName),
+    PART("part", PlaceholderContext::getPart),
+    PLAYER("player", ctx -> ctx.getPlayer() == null ? null : ctx.getPlayer().getName()),
+    ARMOR_COUNT("armor_count", ctx -> ctx.getArmorCount() == null ? null : String.valueOf(ctx.getArmorCount())),
+    ESSENCE("essence", ctx -> ctx.getEssence() == null ? null : String.valueOf(ctx.getEssence())),
+    AMOUNT("amount", ctx -> ctx.getAmount() == null ? null : String.valueOf(ctx.getAmount())),
+    TARGET_HEX_COLOR("target_hex_color", ctx -> ctx.getTargetTier() == null ? null : ctx.getTargetTier().getHexColor()),
+    TARGET_TIER_NAME("target_tier_name", ctx -> ctx.getTargetTier() == null ? null : ctx.getTargetTier().getName()),
+    TARGET_TIER("target_tier", ctx -> ctx.getTargetTier() == null ? null : String.valueOf(ctx.getTargetTier().getTier()));
+
+    private static final Map<String, Placeholder> BY_KEY = new HashMap<>();
+
+    static {
+        for (Placeholder placeholder : values()) {
+            BY_KEY.put(placeholder.key, placeholder);
+        }
+    }
+
+    private final String key;
+    private final String token;
+    private final Function<PlaceholderContext, String> resolver;
+
+    Placeholder(String key, Function<PlaceholderContext, String> resolver) {
+        this.key = key;
+        this.token = "{" + key + "}";
+        this.resolver = resolver;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the placeholder as written in config, e.g. {@code {tier_name}}
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Resolves this placeholder against a context
+     *
+     * @return the value, or null if the context does not provide one
+     */
+    public String resolve(PlaceholderContext context) {
+        return resolver.apply(context);
+    }
+
+    /**
+     * Looks up a placeholder by its key (the text between the braces)
+     *
+     * @return the placeholder, or null if the key is not a known placeholder
+     */
+    public static Placeholder fromKey(String key) {
+        return BY_KEY.get(key);
+    }
+
+    private static String resolveMultiplier(PlaceholderContext ctx) {
+        // Player stats show the summed multiplier rounded; tier text shows the configured value as-is
+        if (ctx.getTotalMultiplier() != null) {
+            return String.format("%.2f", ctx.getTotalMultiplier());
+        }
+        ArmorTier tier = ctx.getTier();
+        return tier == null ? null : String.valueOf(tier.getMultiplier());
+    }
+
+    private static String resolvePrice(PlaceholderContext ctx) {
+        if (ctx.getPrice() != null) {
+            return String.valueOf(ctx.getPrice());
+        }
+        ArmorTier tier = ctx.getTier();
+        return tier == null ? null : String.valueOf(tier.getPrice());
+    }
+}
@@ -0,0 +1,154 @@
+package me.macmoment.customarmor.utils;
+
+import me.macmoment.customarmor.data.ArmorTier;
+import org.bukkit.entity.Player;
+
+/**
+ * Values available to a {@link PlaceholderTemplate} while it renders
+ * Short-lived: build one per render call with the fluent setters, unset values leave their placeholder untouched
+ */
+public final class PlaceholderContext {
+    private final String accent;
+    private ArmorTier tier;
+    private ArmorTier targetTier;
+    private Integer maxTier;
+    private Player player;
+    private Integer price;
+    private Integer discount;
+    private String part;
+    private String pieceName;
+    private Double totalMultiplier;
+    private Integer armorCount;
+    private Integer essence;
+    private Integer amount;
+
+    /**
+     * @param accent the accent color from config, used for {@code {accent}}
+     */
+    public PlaceholderContext(String accent) {
+        this.accent = accent;
+    }
+
+    /**
+     * Sets the tier being displayed or bought
+     * Provides {@code {hex_color}}, {@code {tier_name}}, {@code {tier}}, {@code {full_set_bonus}}
+     * and the default {@code {multiplier}} and {@code {price}}
+     */
+    public PlaceholderContext tier(ArmorTier tier) {
+        this.tier = tier;
+        return this;
+    }
+
+    /**
+     * Sets the tier a navigation button leads to, for the {@code {target_*}} placeholders
+     */
+    public PlaceholderContext targetTier(ArmorTier targetTier) {
+        this.targetTier = targetTier;
+        return this;
+    }
+
+    public PlaceholderContext maxTier(int maxTier) {
+        this.maxTier = maxTier;
+        return this;
+    }
+
+    public PlaceholderContext player(Player player) {
+        this.player = player;
+        return this;
+    }
+
+    /**
+     * Overrides the tier price, e.g. with the discounted upgrade price
+     */
+    public PlaceholderContext price(int price) {
+        this.price = price;
+        return this;
+    }
+
+    public PlaceholderContext discount(int discount) {
+        this.discount = discount;
+        return this;
+    }
+
+    public PlaceholderContext part(String part) {
+        this.part = part;
+        return this;
+    }
+
+    public PlaceholderContext pieceName(String pieceName) {
+        this.pieceName = pieceName;
+        return this;
+    }
+
+    /**
+     * Sets a player's equipped armor stats
+     * {@code {multiplier}} then shows the summed multiplier instead of the tier's
+     */
+    public PlaceholderContext armorStats(double totalMultiplier, int armorCount) {
+        this.totalMultiplier = totalMultiplier;
+        this.armorCount = armorCount;
+        return this;
+    }
+
+    public PlaceholderContext essence(int essence) {
+        this.essence = essence;
+        return this;
+    }
+
+    public PlaceholderContext amount(int amount) {
+        this.amount = amount;
+        return this;
+    }
+
+    public String getAccent() {
+        return accent;
+    }
+
+    public ArmorTier getTier() {
+        return tier;
+    }
+
+    public ArmorTier getTargetTier() {
+        return targetTier;
+    }
+
+    public Integer getMaxTier() {
+        return maxTier;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public Integer getPrice() {
+        return price;
+    }
+
+    public Integer getDiscount() {
+        return discount;
+    }
+
+    public String getPart() {
+        return part;
+    }
+
+    public String getPieceName() {
+        return pieceName;
+    }
+
+    public Double getTotalMultiplier() {
+        return totalMultiplier;
+    }
+
+    public Integer getArmorCount() {
+        return armorCount;
+    }
+
+    public Integer getEssence() {
+        return essence;
+    }
+
+    public Integer getAmount() {
+        return amount;
+    }
+}
@@ -0,0 +1,110 @@
+package me.macmoment.customarmor.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A line of config text compiled into literal and placeholder segments.
+ * <p>
+ * Compiling scans the text once; rendering then appends the segments into a single
+ * {@link StringBuilder} instead of running one {@code String.replace} per placeholder.
+ * Unknown placeholders, and placeholders the context has no value for, are kept as written.
+ * </p>
+ */
+public final class PlaceholderTemplate {
+    private static final Placeholder[] NO_PLACEHOLDERS = new Placeholder[0];
+
+    private final String source;
+    // literals[i] comes before placeholders[i]; literals has one extra trailing entry
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+
+    private PlaceholderTemplate(String source, String[] literals, Placeholder[] placeholders) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Compiles a line of config text
+     *
+     * @param text the raw text, null is treated as empty
+     */
+    public static PlaceholderTemplate compile(String text) {
+        if (text == null) text = "";
+
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+
+        while (index < text.length()) {
+            int open = text.indexOf('{', index);
+            if (open < 0) break;
+            int close = text.indexOf('}', open + 1);
+            if (close < 0) break;
+
+            Placeholder placeholder = Placeholder.fromKey(text.substring(open + 1, close));
+            if (placeholder == null) {
+                // Not one of ours - keep the brace as literal text and continue after it
+                literal.append(text, index, open + 1);
+                index = open + 1;
+                continue;
+            }
+
+            literal.append(text, index, open);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(placeholder);
+            index = close + 1;
+        }
+        literal.append(text, index, text.length());
+        literals.add(literal.toString());
+
+        return new PlaceholderTemplate(text, literals.toArray(new String[0]),
+            placeholders.isEmpty() ? NO_PLACEHOLDERS : placeholders.toArray(NO_PLACEHOLDERS));
+    }
+
+    /**
+     * Compiles every line of a config string list
+     */
+    public static List<PlaceholderTemplate> compileAll(List<String> lines) {
+        List<PlaceholderTemplate> templates = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            templates.add(compile(line));
+        }
+        return List.copyOf(templates);
+    }
+
+    /**
+     * Renders the template in one pass
+     */
+    public String render(PlaceholderContext context) {
+        if (placeholders.length == 0) {
+            return source;
+        }
+
+        StringBuilder builder = new StringBuilder(source.length() + 32);
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+            String value = placeholders[i].resolve(context);
+            builder.append(value != null ? value : placeholders[i].getToken());
+        }
+        builder.append(literals[placeholders.length]);
+        return builder.toString();
+    }
+
+    /**
+     * @return true if the template contains no placeholders and always renders to its source
+     */
+    public boolean isConstant() {
+        return placeholders.length == 0;
+    }
+
+    /**
+     * @return the raw config text this template was compiled from
+     */
+    public String getSource() {
+        return source;
+    }
+}
@@ -1,12 +1,14 @@
 package me.macmoment.customarmor.utils;
 
 import me.macmoment.customarmor.CustomArmor;
+import me.macmoment.customarmor.metrics.Metrics;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.ChatColor;
 
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -21,6 +23,20 @@ public class TextUtils {
      */
     private static final Pattern MINIMESSAGE_PATTERN = Pattern.compile("<(gradient:|rainbow|color:)");
 
+    /**
+     * Pattern for the config hex color format {@code <##RRGGBB>}.
+     */
+    private static final Pattern HEX_PATTERN = Pattern.compile("<##([A-Fa-f0-9]{6})>");
+
+    /** Maximum number of distinct strings kept per cache. */
+    private static final int CACHE_SIZE = 2048;
+
+    /** Memoized results of {@link #colorize(String)}, keyed by input text. */
+    private static final TextCache<String> LEGACY_CACHE = new TextCache<>(CACHE_SIZE);
+
+    /** Memoized results of {@link #parse(String)}, keyed by input text. Components are immutable. */
+    private static final TextCache<Component> COMPONENT_CACHE = new TextCache<>(CACHE_SIZE);
+
     /**
      * Gets the prefix from config
      */
@@ -40,22 +56,38 @@ public class TextUtils {
      */
     public static String colorize(String text) {
         if (text == null) return "";
-        
-        // Handle hex colors like <##RRGGBB>
+        return LEGACY_CACHE.get(text, TextUtils::translateColors);
+    }
+
+    /**
+     * Colorizes like {@link #colorize(String)} without caching the result
+     * For per-player text (balances, prices) that would only push configured text out of the cache
+     */
+    public static String colorizeDynamic(String text) {
+        if (text == null) return "";
+        return translateColors(text);
+    }
+
+    /**
+     * Translates & codes and {@code <##RRGGBB>} hex colors, uncached
+     */
+    private static String translateColors(String text) {
         text = net.md_5.bungee.api.ChatColor.translateAlternateColorCodes('&', text);
         
         // Handle MiniMessage-style hex colors
-        java.util.regex.Pattern hexPattern = java.util.regex.Pattern.compile("<##([A-Fa-f0-9]{6})>");
-        java.util.regex.Matcher matcher = hexPattern.matcher(text);
-        StringBuffer buffer = new StringBuffer();
-        
-        while (matcher.find()) {
-            String hex = matcher.group(1);
-            matcher.appendReplacement(buffer, net.md_5.bungee.api.ChatColor.of("#" + hex).toString());
+        Matcher matcher = HEX_PATTERN.matcher(text);
+        if (!matcher.find()) {
+            return text;
         }
-        matcher.appendTail(buffer);
+
+        StringBuilder builder = new StringBuilder(text.length() + 32);
+        do {
+            String hex = matcher.group(1);
+            matcher.appendReplacement(builder, net.md_5.bungee.api.ChatColor.of("#" + hex).toString());
+        } while (matcher.find());
+        matcher.appendTail(builder);
         
-        return buffer.toString();
+        return builder.toString();
     }
 
     /**
@@ -81,16 +113,32 @@ public class TextUtils {
      */
     public static Component parse(String text) {
         if (text == null) return Component.empty();
-        
+        return COMPONENT_CACHE.get(text, TextUtils::parseUncached);
+    }
+
+    /**
+     * Parses like {@link #parse(String)} without caching the result
+     * For per-player text (names, balances, prices) that would only push configured text out of the cache
+     */
+    public static Component parseDynamic(String text) {
+        if (text == null) return Component.empty();
+        return parseUncached(text);
+    }
+
+    /**
+     * Parses text without the caches; only this is timed, so cache hits don't dilute the metric
+     */
+    private static Component parseUncached(String text) {
+        long start = Metrics.start();
         Component component;
         if (containsMiniMessageTags(text)) {
             component = MiniMessage.miniMessage().deserialize(text);
         } else {
-            String colorized = colorize(text);
-            component = LegacyComponentSerializer.legacySection().deserialize(colorized);
+            component = LegacyComponentSerializer.legacySection().deserialize(translateColors(text));
         }
-        
-        return removeDefaultItalic(component);
+        component = removeDefaultItalic(component);
+        Metrics.TEXT_PARSE.stop(start);
+        return component;
     }
 
     /**
@@ -130,6 +178,29 @@ public class TextUtils {
         return component.decoration(TextDecoration.ITALIC, false);
     }
 
+    /**
+     * Clears the parse and colorize caches
+     * Called on reload so entries for text that is no longer configured do not linger
+     */
+    public static void clearCaches() {
+        LEGACY_CACHE.clear();
+        COMPONENT_CACHE.clear();
+    }
+
+    /**
+     * Gets the cache behind {@link #colorize(String)}, for statistics
+     */
+    public static TextCache<String> getLegacyCache() {
+        return LEGACY_CACHE;
+    }
+
+    /**
+     * Gets the cache behind {@link #parse(String)}, for statistics
+     */
+    public static TextCache<Component> getComponentCache() {
+        return COMPONENT_CACHE;
+    }
+
     /**
      * Strips all color codes from text
      */